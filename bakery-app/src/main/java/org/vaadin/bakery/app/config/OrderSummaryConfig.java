@@ -0,0 +1,23 @@
+package org.vaadin.bakery.app.config;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.vaadin.bakery.service.OrderSummaryService;
+
+/**
+ * Order summary rollup configuration.
+ * Rebuilds the dashboard rollup at startup when {@code bakery.order-summary.rebuild-on-startup}
+ * is enabled, e.g. after seeding with data.sql or as a one-off backfill
+ * ({@code --bakery.order-summary.rebuild-on-startup=true}).
+ */
+@Configuration
+public class OrderSummaryConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "bakery.order-summary.rebuild-on-startup", havingValue = "true")
+    ApplicationRunner orderSummaryRebuildRunner(OrderSummaryService orderSummaryService) {
+        return _ -> orderSummaryService.rebuild();
+    }
+}
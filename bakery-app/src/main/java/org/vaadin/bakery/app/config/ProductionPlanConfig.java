@@ -0,0 +1,23 @@
+package org.vaadin.bakery.app.config;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.vaadin.bakery.service.ProductionPlanService;
+
+/**
+ * Production plan rollup configuration.
+ * Rebuilds the plan at startup when {@code bakery.production-plan.rebuild-on-startup} is enabled,
+ * e.g. after seeding with data.sql or as a one-off backfill
+ * ({@code --bakery.production-plan.rebuild-on-startup=true}).
+ */
+@Configuration
+public class ProductionPlanConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "bakery.production-plan.rebuild-on-startup", havingValue = "true")
+    ApplicationRunner productionPlanRebuildRunner(ProductionPlanService productionPlanService) {
+        return _ -> productionPlanService.rebuild();
+    }
+}
@@ -1,8 +1,11 @@
 package org.vaadin.bakery.app.config.security;
 
 import com.vaadin.flow.spring.security.VaadinSecurityConfigurer;
+import org.springframework.boot.security.autoconfigure.actuate.web.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -10,6 +13,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.vaadin.bakery.ui.view.login.LoginView;
+import org.vaadin.bakery.uimodel.type.UserRole;
 
 /**
  * Spring Security configuration for the Bakery application.
@@ -17,6 +21,7 @@ import org.vaadin.bakery.ui.view.login.LoginView;
  * - Vaadin security integration
  * - Session management with concurrent session control
  * - BCrypt password encoding
+ * - Actuator health open to probes, all other endpoints (e.g. metrics) for admins via HTTP basic
  *
  * Note: WebAuthn passkey authentication is prepared in the UI but requires
  * additional configuration with webauthn4j-core dependency when ready.
@@ -26,6 +31,21 @@ import org.vaadin.bakery.ui.view.login.LoginView;
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    /**
+     * Actuator endpoints, wherever they are served: health is public for probes, the others require
+     * the admin role, so access does not depend on the management port staying on loopback.
+     */
+    @Bean
+    @Order(1)
+    SecurityFilterChain managementSecurityFilterChain(HttpSecurity http) throws Exception {
+        return http.securityMatcher(EndpointRequest.toAnyEndpoint())
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(EndpointRequest.to("health")).permitAll()
+                        .anyRequest().hasRole(UserRole.ADMIN.name()))
+                .httpBasic(Customizer.withDefaults())
+                .build();
+    }
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http.with(VaadinSecurityConfigurer.vaadin(), configurer -> {
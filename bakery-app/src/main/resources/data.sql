@@ -40,16 +40,20 @@ INSERT INTO product (id, version, name, description, size, price, available, cre
 (18, 0, 'Danish Pastry', 'Fruit-filled flaky pastry', 'Individual', 3.75, true, CURRENT_TIMESTAMP);
 
 -- Customers
-INSERT INTO customer (id, version, name, phone_number, email, active, created_at) VALUES
-(1, 0, 'Alice Johnson', '+1 (212) 555-0101', 'alice@example.com', true, CURRENT_TIMESTAMP),
-(2, 0, 'Bob Smith', '+1 (212) 555-0102', 'bob@example.com', true, CURRENT_TIMESTAMP),
-(3, 0, 'Carol White', '+1 (212) 555-0103', 'carol@example.com', true, CURRENT_TIMESTAMP),
-(4, 0, 'David Brown', '+1 (212) 555-0104', 'david@example.com', true, CURRENT_TIMESTAMP),
-(5, 0, 'Emma Davis', '+1 (212) 555-0105', 'emma@example.com', true, CURRENT_TIMESTAMP),
-(6, 0, 'Frank Miller', '+1 (718) 555-0106', 'frank@example.com', true, CURRENT_TIMESTAMP),
-(7, 0, 'Grace Lee', '+1 (718) 555-0107', 'grace@example.com', true, CURRENT_TIMESTAMP),
-(8, 0, 'Henry Wilson', '+1 (718) 555-0108', 'henry@example.com', true, CURRENT_TIMESTAMP),
-(9, 0, 'Iris Martinez', '+1 (718) 555-0109', 'iris@example.com', true, CURRENT_TIMESTAMP);
+INSERT INTO customer (id, version, name, phone_number, phone_digits, email, active, created_at) VALUES
+(1, 0, 'Alice Johnson', '+1 (212) 555-0101', '12125550101', 'alice@example.com', true, CURRENT_TIMESTAMP),
+(2, 0, 'Bob Smith', '+1 (212) 555-0102', '12125550102', 'bob@example.com', true, CURRENT_TIMESTAMP),
+(3, 0, 'Carol White', '+1 (212) 555-0103', '12125550103', 'carol@example.com', true, CURRENT_TIMESTAMP),
+(4, 0, 'David Brown', '+1 (212) 555-0104', '12125550104', 'david@example.com', true, CURRENT_TIMESTAMP),
+(5, 0, 'Emma Davis', '+1 (212) 555-0105', '12125550105', 'emma@example.com', true, CURRENT_TIMESTAMP),
+(6, 0, 'Frank Miller', '+1 (718) 555-0106', '17185550106', 'frank@example.com', true, CURRENT_TIMESTAMP),
+(7, 0, 'Grace Lee', '+1 (718) 555-0107', '17185550107', 'grace@example.com', true, CURRENT_TIMESTAMP),
+(8, 0, 'Henry Wilson', '+1 (718) 555-0108', '17185550108', 'henry@example.com', true, CURRENT_TIMESTAMP),
+(9, 0, 'Iris Martinez', '+1 (718) 555-0109', '17185550109', 'iris@example.com', true, CURRENT_TIMESTAMP);
+
+-- Phone digit suffixes for substring phone search (maintained by CustomerEntity for new customers)
+INSERT INTO customer_phone_suffix (customer_id, suffix)
+SELECT c.id, SUBSTRING(c.phone_digits, r.X) FROM customer c JOIN SYSTEM_RANGE(1, 20) r ON r.X <= LENGTH(c.phone_digits);
 
 -- Orders with various statuses
 -- Downtown Store pickups (location_id = 1)
@@ -157,3 +161,8 @@ INSERT INTO order_item (id, version, status, quantity, unit_price, line_total, o
 -- Order 12: BAKED - Iris's Quiche Lorraine ($22.00)
 INSERT INTO order_item (id, version, status, quantity, unit_price, line_total, order_id, product_id) VALUES
 (19, 0, 'BAKED', 1, 22.00, 22.00, 12, 17);
+
+-- Generated IDs continue from 1001, clear of the IDs above. Entities share entity_id_seq with an
+-- allocationSize of 50 (see AbstractEntity), and Hibernate's pooled optimizer treats each sequence value as
+-- the upper end of a block of 50: the first value, 1050, hands out 1001 to 1050.
+ALTER SEQUENCE entity_id_seq RESTART WITH 1050;
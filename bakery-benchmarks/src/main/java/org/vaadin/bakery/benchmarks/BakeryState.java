@@ -0,0 +1,72 @@
+package org.vaadin.bakery.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.vaadin.bakery.service.OrderArchiveService;
+import org.vaadin.bakery.service.OrderSummaryService;
+import org.vaadin.bakery.service.ProductionPlanService;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Spring context over a freshly seeded in-memory H2 database, shared by all threads of a trial.
+ * Data volumes are JMH parameters, e.g. {@code -p customers=10000 -p ordersPerDay=500 -p yearsOfHistory=3}.
+ * {@code -p jdbcBatchSize=0} turns JDBC batching off, sending every insert separately.
+ * {@code -p archiveAfterDays=90} moves the seeded orders due more than 90 days ago to the archive tables
+ * before the run, for comparing queries over small live tables with the full history.
+ */
+@State(Scope.Benchmark)
+public class BakeryState {
+
+    @Param("1000")
+    public int customers;
+
+    @Param("50")
+    public int products;
+
+    @Param("100")
+    public int ordersPerDay;
+
+    @Param("2")
+    public int yearsOfHistory;
+
+    @Param("50")
+    public int jdbcBatchSize;
+
+    @Param("0")
+    public int archiveAfterDays;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var application = new SpringApplication(BenchmarkApplication.class);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:bakery-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+
+        BenchmarkData.seed(bean(JdbcTemplate.class), customers, products, ordersPerDay, yearsOfHistory);
+        if (archiveAfterDays > 0) {
+            bean(OrderArchiveService.class).archiveBefore(LocalDate.now().minusDays(archiveAfterDays));
+        }
+        bean(OrderSummaryService.class).rebuild();
+        bean(ProductionPlanService.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
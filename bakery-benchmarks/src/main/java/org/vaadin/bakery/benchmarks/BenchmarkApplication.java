@@ -0,0 +1,23 @@
+package org.vaadin.bakery.benchmarks;
+
+import org.springframework.beans.factory.config.CustomScopeConfigurer;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.support.SimpleThreadScope;
+
+/**
+ * Headless Spring context with the JPA repositories, services and mappers, but no UI.
+ */
+@SpringBootApplication(scanBasePackages = {"org.vaadin.bakery.jpaclient", "org.vaadin.bakery.jpaservice"})
+public class BenchmarkApplication {
+
+    /**
+     * Session-scoped services (user timezone and location) get one instance per benchmark thread.
+     */
+    @Bean
+    static CustomScopeConfigurer sessionScopeConfigurer() {
+        var configurer = new CustomScopeConfigurer();
+        configurer.addScope("session", new SimpleThreadScope());
+        return configurer;
+    }
+}
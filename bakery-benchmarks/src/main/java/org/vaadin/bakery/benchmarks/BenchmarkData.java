@@ -0,0 +1,96 @@
+package org.vaadin.bakery.benchmarks;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.vaadin.bakery.jpamodel.entity.AbstractEntity;
+
+/**
+ * Seeds the benchmark database with synthetic locations, products, customers and order history.
+ * Rows are generated in bulk with H2's SYSTEM_RANGE so that large volumes load in seconds.
+ */
+final class BenchmarkData {
+
+    static final int LOCATION_COUNT = 2;
+
+    /**
+     * Orders of one day are spread over this many slots of 15 minutes starting at 08:00.
+     */
+    private static final int TIME_SLOTS = 40;
+
+    private static final int SEED_CHUNK_SIZE = 100_000;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Seeds the database.
+     *
+     * @param customers number of customers
+     * @param products number of products
+     * @param ordersPerDay orders due per day, across all locations
+     * @param yearsOfHistory years of past orders; one more week of upcoming orders is always added
+     */
+    static void seed(JdbcTemplate jdbcTemplate, int customers, int products, int ordersPerDay, int yearsOfHistory) {
+        jdbcTemplate.update(
+                "INSERT INTO location (id, version, name, address, timezone, default_country_code, default_area_code, " +
+                "active, sort_order, created_at) " +
+                "SELECT X, 0, 'Location ' || X, X || ' Main Street', 'America/New_York', '1', '212', true, X, " +
+                "CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)",
+                LOCATION_COUNT);
+
+        jdbcTemplate.update(
+                "INSERT INTO product (id, version, name, description, size, price, available, created_at) " +
+                "SELECT X, 0, 'Product ' || X, 'Benchmark product ' || X, 'Individual', 2.50 + MOD(X, 20), " +
+                "MOD(X, 10) <> 0, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)",
+                products);
+
+        jdbcTemplate.update(
+                "INSERT INTO customer (id, version, name, phone_number, phone_digits, email, active, created_at) " +
+                "SELECT X, 0, 'Customer ' || X, " +
+                "'+1 (' || (200 + MOD(X / 10000, 800)) || ') 555-' || LPAD(CAST(MOD(X, 10000) AS VARCHAR), 4, '0'), " +
+                "'1' || (200 + MOD(X / 10000, 800)) || '555' || LPAD(CAST(MOD(X, 10000) AS VARCHAR), 4, '0'), " +
+                "'customer' || X || '@example.com', true, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)",
+                customers);
+        jdbcTemplate.update(
+                "INSERT INTO customer_phone_suffix (customer_id, suffix) " +
+                "SELECT c.id, SUBSTRING(c.phone_digits, r.X) FROM customer c " +
+                "JOIN SYSTEM_RANGE(1, 20) r ON r.X <= LENGTH(c.phone_digits)");
+
+        var historyDays = yearsOfHistory * 365;
+        var orderCount = (long) (historyDays + 7) * ordersPerDay;
+        for (long offset = 0; offset < orderCount; offset += SEED_CHUNK_SIZE) {
+            var chunkEnd = Math.min(offset + SEED_CHUNK_SIZE, orderCount);
+
+            // Order X is due on day X / ordersPerDay, counted from the start of the history
+            jdbcTemplate.update(
+                    "INSERT INTO customer_order (id, version, status, due_date, due_time, total, paid, created_at, " +
+                    "customer_id, location_id) " +
+                    "SELECT X + 1, 0, " +
+                    "CASEWHEN(X / ? < ?, " +
+                    "ARRAY['PICKED_UP', 'PICKED_UP', 'PICKED_UP', 'PICKED_UP', 'CANCELLED'][MOD(X, 5) + 1], " +
+                    "ARRAY['NEW', 'VERIFIED', 'NOT_OK', 'IN_PROGRESS', 'BAKED', 'PACKAGED', " +
+                    "'READY_FOR_PICK_UP'][MOD(X, 7) + 1]), " +
+                    "DATEADD(DAY, X / ? - ?, CURRENT_DATE), " +
+                    "DATEADD(MINUTE, MOD(X, ?) * 15, TIME '08:00:00'), " +
+                    "2.50 + MOD(X, 20), MOD(X, 2) = 0, CURRENT_TIMESTAMP, " +
+                    "MOD(X, ?) + 1, MOD(X, ?) + 1 " +
+                    "FROM SYSTEM_RANGE(?, ?)",
+                    ordersPerDay, historyDays, ordersPerDay, historyDays, TIME_SLOTS,
+                    customers, LOCATION_COUNT, offset, chunkEnd - 1);
+
+            // Two line items per order
+            jdbcTemplate.update(
+                    "INSERT INTO order_item (id, version, status, quantity, unit_price, line_total, order_id, product_id) " +
+                    "SELECT X + 1, 0, 'NEW', 1 + MOD(X, 3), 2.50, 2.50 * (1 + MOD(X, 3)), X / 2 + 1, MOD(X, ?) + 1 " +
+                    "FROM SYSTEM_RANGE(?, ?)",
+                    products, offset * 2, chunkEnd * 2 - 1);
+        }
+
+        // Continue generated IDs after the seeded rows; the pooled ID sequence hands out the values below its own
+        var maxId = 0L;
+        for (var table : new String[] {"location", "product", "customer", "customer_order", "order_item"}) {
+            maxId = Math.max(maxId, jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class));
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE " + AbstractEntity.ID_SEQUENCE + " RESTART WITH "
+                + (maxId + AbstractEntity.ID_ALLOCATION_SIZE));
+    }
+}
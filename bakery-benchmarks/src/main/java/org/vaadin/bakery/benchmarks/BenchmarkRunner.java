@@ -0,0 +1,27 @@
+package org.vaadin.bakery.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes the results as JSON (default {@code target/jmh-result.json}) for tracking
+ * regressions between releases. Accepts the regular JMH command line options, e.g.
+ * {@code -p ordersPerDay=500 -rff target/release-1.1.json ServiceBenchmark}.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var commandLineOptions = new CommandLineOptions(args);
+        var options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLineOptions.getResult().orElse("target/jmh-result.json"))
+                .build();
+        new Runner(options).run();
+    }
+}
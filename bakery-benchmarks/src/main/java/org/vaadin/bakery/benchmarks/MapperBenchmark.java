@@ -0,0 +1,92 @@
+package org.vaadin.bakery.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.vaadin.bakery.jpaclient.repository.OrderItemRepository;
+import org.vaadin.bakery.jpaclient.repository.OrderRepository;
+import org.vaadin.bakery.jpamodel.entity.OrderEntity;
+import org.vaadin.bakery.jpamodel.projection.OrderItemSummaryProjection;
+import org.vaadin.bakery.jpaservice.mapper.InstantMapper;
+import org.vaadin.bakery.jpaservice.mapper.OrderItemMapper;
+import org.vaadin.bakery.jpaservice.mapper.OrderMapper;
+import org.vaadin.bakery.uimodel.data.OrderDashboard;
+import org.vaadin.bakery.uimodel.data.OrderItemSummary;
+import org.vaadin.bakery.uimodel.data.OrderList;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct mapper cost on already loaded data (no database access in the measured code).
+ * The input is the upcoming week of orders with customers, locations, items and products initialized.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int ORDER_COUNT = 1000;
+
+    private OrderMapper orderMapper;
+    private OrderItemMapper orderItemMapper;
+    private InstantMapper instantMapper;
+
+    private List<OrderEntity> orders;
+    private List<OrderItemSummaryProjection> itemProjections;
+    private Instant instant;
+
+    @Setup(Level.Trial)
+    public void setUp(BakeryState state) {
+        orderMapper = state.bean(OrderMapper.class);
+        orderItemMapper = state.bean(OrderItemMapper.class);
+        instantMapper = state.bean(InstantMapper.class);
+
+        var orderRepository = state.bean(OrderRepository.class);
+        var orderItemRepository = state.bean(OrderItemRepository.class);
+        var transactionTemplate = new TransactionTemplate(state.bean(PlatformTransactionManager.class));
+        orders = transactionTemplate.execute(_ -> orderRepository.findWithDetailsByIdIn(
+                orderRepository.findUpcomingIdsAfter(LocalDate.now(), LocalTime.MIN, 0L, Limit.of(ORDER_COUNT))));
+        itemProjections = orderItemRepository.findProjectedByOrderIdIn(
+                orders.stream().map(OrderEntity::getId).toList());
+        instant = Instant.now();
+    }
+
+    @Benchmark
+    public List<OrderList> orderToListFromEntities() {
+        return orderMapper.toListListFromEntities(orders);
+    }
+
+    @Benchmark
+    public List<OrderDashboard> orderToDashboard() {
+        return orderMapper.toDashboardList(orders);
+    }
+
+    @Benchmark
+    public List<OrderItemSummary> orderItemToSummaryFromProjections() {
+        return orderItemMapper.toSummaryList(itemProjections);
+    }
+
+    @Benchmark
+    public LocalDateTime instantToBrowserTime() {
+        return instantMapper.toBrowserTime(instant);
+    }
+}
@@ -0,0 +1,86 @@
+package org.vaadin.bakery.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.vaadin.bakery.benchmarks.OrderCreateBenchmark.Statements;
+import org.vaadin.bakery.jpaclient.config.StatementCounter;
+import org.vaadin.bakery.service.OrderService;
+import org.vaadin.bakery.uimodel.data.OrderDetail;
+import org.vaadin.bakery.uimodel.data.OrderItemDetail;
+import org.vaadin.bakery.uimodel.type.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Several baristas entering orders for new customers at the same time, each new phone number
+ * {@value #ORDERS_PER_NUMBER} times in a row so that threads race to create the same customer.
+ * Reports orders per second and statements per order. That the racing orders share one customer is
+ * tested by {@code JpaOrderServiceConcurrencyTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class NewCustomerOrderBenchmark {
+
+    private static final int ORDERS_PER_NUMBER = 4;
+    private static final int ITEMS_PER_ORDER = 5;
+
+    // Twelve digits, unlike the eleven of the seeded customers (see BenchmarkData)
+    private static final long FIRST_NUMBER = 900_000_000_000L;
+
+    private final AtomicLong orderSequence = new AtomicLong();
+    private OrderService orderService;
+    private int products;
+
+    @Setup(Level.Trial)
+    public void setUp(BakeryState state) {
+        orderService = state.bean(OrderService.class);
+        products = state.products;
+    }
+
+    @Benchmark
+    public OrderDetail createOrder(Statements statements) {
+        var number = FIRST_NUMBER + orderSequence.getAndIncrement() / ORDERS_PER_NUMBER;
+
+        var order = new OrderDetail();
+        order.setStatus(OrderStatus.NEW);
+        order.setCustomerName("Customer +" + number);
+        order.setCustomerPhone("+" + number);
+        order.setLocationId(1L);
+        order.setDueDate(LocalDate.now().plusDays(1));
+        order.setDueTime(LocalTime.of(10, 0));
+        for (var i = 0; i < ITEMS_PER_ORDER; i++) {
+            var item = new OrderItemDetail();
+            item.setProductId((number + i) % products + 1);
+            item.setQuantity(1);
+            item.setUnitPrice(new BigDecimal("2.50"));
+            item.setLineTotal(new BigDecimal("2.50"));
+            order.getItems().add(item);
+        }
+        order.setTotal(new BigDecimal("2.50").multiply(BigDecimal.valueOf(ITEMS_PER_ORDER)));
+
+        var before = StatementCounter.count();
+        var created = orderService.create(order);
+        statements.statements += StatementCounter.count() - before;
+        statements.orders++;
+        return created;
+    }
+}
@@ -0,0 +1,92 @@
+package org.vaadin.bakery.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.vaadin.bakery.jpaclient.config.StatementCounter;
+import org.vaadin.bakery.service.OrderService;
+import org.vaadin.bakery.uimodel.data.OrderDetail;
+import org.vaadin.bakery.uimodel.data.OrderItemDetail;
+import org.vaadin.bakery.uimodel.type.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating orders of various sizes, e.g. large catering orders, through {@link OrderService#create}.
+ * Besides the time per order, reports the SQL statements prepared; statements / orders is the number
+ * of round trips per order. Compare with {@code -p jdbcBatchSize=0} to see the effect of JDBC batching.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderCreateBenchmark {
+
+    @Param({"1", "20", "100"})
+    public int itemsPerOrder;
+
+    private OrderService orderService;
+    private OrderDetail order;
+
+    @Setup(Level.Trial)
+    public void setUp(BakeryState state) {
+        orderService = state.bean(OrderService.class);
+
+        order = new OrderDetail();
+        order.setStatus(OrderStatus.NEW);
+        order.setCustomerId(1L);
+        order.setLocationId(1L);
+        order.setDueDate(LocalDate.now().plusDays(1));
+        order.setDueTime(LocalTime.of(10, 0));
+        for (var i = 0; i < itemsPerOrder; i++) {
+            var item = new OrderItemDetail();
+            item.setProductId((long) (i % state.products) + 1);
+            item.setQuantity(1);
+            item.setUnitPrice(new BigDecimal("2.50"));
+            item.setLineTotal(new BigDecimal("2.50"));
+            order.getItems().add(item);
+        }
+        order.setTotal(new BigDecimal("2.50").multiply(BigDecimal.valueOf(itemsPerOrder)));
+    }
+
+    @Benchmark
+    public OrderDetail createOrder(Statements statements) {
+        var before = StatementCounter.count();
+        var created = orderService.create(order);
+        statements.statements += StatementCounter.count() - before;
+        statements.orders++;
+        return created;
+    }
+
+    /**
+     * Statements prepared and orders created per iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Statements {
+
+        public long statements;
+        public long orders;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            orders = 0;
+        }
+    }
+}
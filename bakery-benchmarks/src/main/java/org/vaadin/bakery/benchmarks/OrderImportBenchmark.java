@@ -0,0 +1,95 @@
+package org.vaadin.bakery.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.vaadin.bakery.service.OrderImportService;
+import org.vaadin.bakery.service.OrderImportService.ImportResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importing a generated CSV file of {@code lines} order lines through {@link OrderImportService#importCsv},
+ * e.g. {@code -p lines=100000 OrderImportBenchmark}. Every iteration imports a new file: its orders are due
+ * over the next four weeks, half of them for seeded customers and half for new phone numbers, so both the
+ * customer lookup and the customer creation are exercised.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OrderImportBenchmark {
+
+    private static final String HEADER =
+            "order_ref,due_date,due_time,location,customer_phone,customer_name,product,quantity,details";
+
+    @Param("100000")
+    public int lines;
+
+    @Param("4")
+    public int linesPerOrder;
+
+    private OrderImportService importService;
+    private int customers;
+    private int products;
+    private int iteration;
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void setUp(BakeryState state) {
+        importService = state.bean(OrderImportService.class);
+        customers = state.customers;
+        products = state.products;
+    }
+
+    @Setup(Level.Iteration)
+    public void generateCsv() {
+        iteration++;
+        var today = LocalDate.now();
+        var builder = new StringBuilder(lines * 100).append(HEADER).append('\n');
+        for (var line = 0; line < lines; line++) {
+            var order = line / linesPerOrder;
+            // Seeded customer IDs start at 1; see BenchmarkData for their phone numbers
+            var phone = order % 2 == 0
+                    ? phoneOf(1 + order / 2 % customers, "555")
+                    : phoneOf(iteration * lines + order, "666");
+            // Every tenth seeded product is unavailable
+            var product = 1 + line % products;
+            if (product % 10 == 0) {
+                product--;
+            }
+            builder.append("B").append(iteration).append('-').append(order).append(',')
+                    .append(today.plusDays(1 + order % 28)).append(',')
+                    .append(String.format("%02d:%02d", 8 + order % 10, order % 4 * 15)).append(',')
+                    .append("Location ").append(1 + order % BenchmarkData.LOCATION_COUNT).append(',')
+                    .append('"').append(phone).append("\",")
+                    .append("Customer ").append(phone.hashCode() & 0xffff).append(',')
+                    .append("Product ").append(product).append(',')
+                    .append(1 + line % 3).append(",\n");
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ImportResult importCsv() {
+        return importService.importCsv(new ByteArrayInputStream(csv));
+    }
+
+    private static String phoneOf(int number, String exchange) {
+        return "+1 (" + (200 + number / 10_000 % 800) + ") " + exchange + "-" + String.format("%04d", number % 10_000);
+    }
+}
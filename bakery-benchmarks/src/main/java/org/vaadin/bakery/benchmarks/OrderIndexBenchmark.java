@@ -0,0 +1,156 @@
+package org.vaadin.bakery.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Storefront and dashboard access paths as plain SQL, with and without the customer_order/order_item
+ * indexes declared on the JPA model. {@code -p indexed=false} drops the indexes after seeding, e.g.
+ * {@code -p ordersPerDay=1400 -p indexed=true,false OrderIndexBenchmark} for about a million orders.
+ * The query plans of both runs are logged at setup for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderIndexBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIndexBenchmark.class);
+
+    /**
+     * Must match the {@code @Index} definitions on OrderEntity and OrderItemEntity.
+     */
+    private static final List<String> INDEXES = List.of(
+            "ix_customer_order_due_date_due_time",
+            "ix_customer_order_status_due_date",
+            "ix_customer_order_customer_id_status",
+            "ix_customer_order_location_id_due_date",
+            "ix_order_item_order_id",
+            "ix_order_item_product_id");
+
+    private static final String STOREFRONT_WEEK =
+            "SELECT id FROM customer_order WHERE due_date BETWEEN ? AND ? ORDER BY due_date ASC, due_time ASC";
+    private static final String DASHBOARD_REMAINING_TODAY =
+            "SELECT COUNT(*) FROM customer_order WHERE due_date = ? AND status NOT IN ('PICKED_UP', 'CANCELLED')";
+    private static final String DASHBOARD_PICKED_UP_THIS_MONTH =
+            "SELECT COUNT(*) FROM customer_order WHERE status = 'PICKED_UP' AND due_date BETWEEN ? AND ?";
+    private static final String CUSTOMER_ACTIVE_ORDERS =
+            "SELECT id FROM customer_order WHERE customer_id = ? AND status IN ('NEW', 'VERIFIED', 'NOT_OK')";
+    private static final String LOCATION_DAY =
+            "SELECT id FROM customer_order WHERE location_id = ? AND due_date = ?";
+    private static final String ORDER_ITEMS =
+            "SELECT id FROM order_item WHERE order_id = ?";
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDate today;
+    private long customerId;
+    private long locationId;
+    private long orderId;
+
+    @Setup(Level.Trial)
+    public void setUp(BakeryState state) {
+        jdbcTemplate = state.bean(JdbcTemplate.class);
+        today = LocalDate.now();
+        customerId = jdbcTemplate.queryForObject("SELECT MIN(customer_id) FROM customer_order", Long.class);
+        locationId = jdbcTemplate.queryForObject("SELECT MIN(location_id) FROM customer_order", Long.class);
+        orderId = jdbcTemplate.queryForObject("SELECT MAX(order_id) FROM order_item", Long.class);
+
+        if (!indexed) {
+            dropIndexes();
+        }
+        jdbcTemplate.execute("ANALYZE");
+        explain();
+    }
+
+    /**
+     * Drops the foreign keys of both tables before their indexes: H2 either refuses to drop an index a
+     * constraint uses or keeps an index of its own for the constraint, and both would leave the columns indexed.
+     * The benchmark only reads, so the missing constraints do not matter.
+     */
+    private void dropIndexes() {
+        jdbcTemplate.query(
+                "SELECT table_name, constraint_name FROM information_schema.table_constraints " +
+                "WHERE constraint_type = 'FOREIGN KEY' AND table_name IN ('CUSTOMER_ORDER', 'ORDER_ITEM')",
+                (rs, _) -> "ALTER TABLE " + rs.getString(1) + " DROP CONSTRAINT " + rs.getString(2))
+                .forEach(jdbcTemplate::execute);
+        INDEXES.forEach(index -> jdbcTemplate.execute("DROP INDEX IF EXISTS " + index));
+    }
+
+    /**
+     * Logs the plan of every benchmark query; without the indexes each one must scan its table.
+     */
+    private void explain() {
+        var queries = new LinkedHashMap<String, Object[]>();
+        queries.put(STOREFRONT_WEEK, new Object[] {today, today.plusDays(6)});
+        queries.put(DASHBOARD_REMAINING_TODAY, new Object[] {today});
+        queries.put(DASHBOARD_PICKED_UP_THIS_MONTH,
+                new Object[] {today.withDayOfMonth(1), today.withDayOfMonth(today.lengthOfMonth())});
+        queries.put(CUSTOMER_ACTIVE_ORDERS, new Object[] {customerId});
+        queries.put(LOCATION_DAY, new Object[] {locationId, today});
+        queries.put(ORDER_ITEMS, new Object[] {orderId});
+
+        queries.forEach((sql, args) -> {
+            var plan = String.join(" ", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args))
+                    .replaceAll("\\s+", " ");
+            logger.info("indexed={}: {}", indexed, plan);
+            if (!indexed && !plan.contains("tableScan")) {
+                throw new IllegalStateException("Query still uses an index after dropping the indexes: " + plan);
+            }
+        });
+    }
+
+    @Benchmark
+    public List<Long> storefrontWeek() {
+        return jdbcTemplate.queryForList(STOREFRONT_WEEK, Long.class, today, today.plusDays(6));
+    }
+
+    @Benchmark
+    public Long dashboardRemainingToday() {
+        return jdbcTemplate.queryForObject(DASHBOARD_REMAINING_TODAY, Long.class, today);
+    }
+
+    @Benchmark
+    public Long dashboardPickedUpThisMonth() {
+        return jdbcTemplate.queryForObject(DASHBOARD_PICKED_UP_THIS_MONTH, Long.class,
+                today.withDayOfMonth(1), today.withDayOfMonth(today.lengthOfMonth()));
+    }
+
+    @Benchmark
+    public List<Long> customerActiveOrders() {
+        return jdbcTemplate.queryForList(CUSTOMER_ACTIVE_ORDERS, Long.class, customerId);
+    }
+
+    @Benchmark
+    public List<Long> locationDay() {
+        return jdbcTemplate.queryForList(LOCATION_DAY, Long.class, locationId, today);
+    }
+
+    @Benchmark
+    public List<Long> orderItems() {
+        return jdbcTemplate.queryForList(ORDER_ITEMS, Long.class, orderId);
+    }
+}
@@ -0,0 +1,76 @@
+package org.vaadin.bakery.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.vaadin.bakery.jpaclient.repository.OrderDailySummaryRepository;
+import org.vaadin.bakery.jpaclient.repository.OrderRepository;
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+import org.vaadin.bakery.jpamodel.projection.OrderDailySummaryProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderListProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderMonthlyCountProjection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Individual repository queries behind the storefront and dashboard, without service or mapping overhead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final List<OrderStatusCode> TERMINAL_STATUSES = List.of(
+            OrderStatusCode.PICKED_UP,
+            OrderStatusCode.CANCELLED
+    );
+
+    private OrderRepository orderRepository;
+    private OrderDailySummaryRepository summaryRepository;
+
+    private LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp(BakeryState state) {
+        orderRepository = state.bean(OrderRepository.class);
+        summaryRepository = state.bean(OrderDailySummaryRepository.class);
+        today = LocalDate.now();
+    }
+
+    @Benchmark
+    public List<OrderListProjection> storefrontPage() {
+        return orderRepository.findPageAfter(today, today.plusDays(7), List.of(OrderStatusCode.values()), null, "%",
+                today, LocalTime.MIN, 0L, Limit.of(50));
+    }
+
+    @Benchmark
+    public long remainingTodayCount() {
+        return orderRepository.countByDueDateAndStatusNotIn(today, TERMINAL_STATUSES);
+    }
+
+    @Benchmark
+    public List<OrderDailySummaryProjection> summarizeMonthFromOrders() {
+        return orderRepository.summarizeByDueDateBetween(today.withDayOfMonth(1), today);
+    }
+
+    @Benchmark
+    public List<OrderMonthlyCountProjection> monthlyCountsFromRollup() {
+        return summaryRepository.sumMonthlyBySummaryDateBetweenAndStatus(
+                today.minusYears(1), today, OrderStatusCode.PICKED_UP);
+    }
+}
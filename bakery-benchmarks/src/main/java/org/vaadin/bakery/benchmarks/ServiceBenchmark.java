@@ -0,0 +1,99 @@
+package org.vaadin.bakery.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.vaadin.bakery.service.CustomerService;
+import org.vaadin.bakery.service.DashboardService;
+import org.vaadin.bakery.service.DashboardService.HeadlineKpis;
+import org.vaadin.bakery.service.DashboardService.KpiWithDelta;
+import org.vaadin.bakery.service.OrderService;
+import org.vaadin.bakery.service.OrderService.OrderFilter;
+import org.vaadin.bakery.uimodel.data.CustomerSummary;
+import org.vaadin.bakery.uimodel.data.OrderDashboard;
+import org.vaadin.bakery.uimodel.data.OrderList;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end service calls as issued by the storefront, order dialog and dashboard screens,
+ * including transactions, queries and mapping.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private OrderService orderService;
+    private CustomerService customerService;
+    private DashboardService dashboardService;
+
+    private OrderFilter storefrontFilter;
+
+    @Setup(Level.Trial)
+    public void setUp(BakeryState state) {
+        orderService = state.bean(OrderService.class);
+        customerService = state.bean(CustomerService.class);
+        dashboardService = state.bean(DashboardService.class);
+
+        var today = LocalDate.now();
+        storefrontFilter = new OrderFilter(today, today.plusDays(7), Set.of(), null, null);
+    }
+
+    @Benchmark
+    public List<OrderList> storefrontFirstPage() {
+        return orderService.listPage(storefrontFilter, null, 50);
+    }
+
+    @Benchmark
+    public List<OrderList> orderListByDateRange() {
+        return orderService.listByDateRange(storefrontFilter.startDate(), storefrontFilter.endDate());
+    }
+
+    @Benchmark
+    public List<CustomerSummary> customerSearchByPhone() {
+        return customerService.searchByPhone("5550");
+    }
+
+    @Benchmark
+    public HeadlineKpis dashboardHeadlineKpis() {
+        return dashboardService.getHeadlineKpis();
+    }
+
+    @Benchmark
+    public List<OrderDashboard> dashboardUpcomingOrders() {
+        return dashboardService.getUpcomingOrders(10);
+    }
+
+    @Benchmark
+    public KpiWithDelta dashboardMonthTotal() {
+        return dashboardService.getMonthTotal();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> dashboardYearOverYearSales() {
+        return dashboardService.getYearOverYearSales();
+    }
+
+    @Benchmark
+    public Map<YearMonth, Long> dashboardMonthlyPickupSeries() {
+        var currentMonth = YearMonth.now();
+        return dashboardService.getMonthlyPickupSeries(currentMonth.minusMonths(11), currentMonth);
+    }
+}
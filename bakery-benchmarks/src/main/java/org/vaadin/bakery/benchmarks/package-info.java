@@ -0,0 +1,5 @@
+/**
+ * JMH benchmarks for the Bakery mappers, services and repository queries.
+ */
+@org.springframework.lang.NonNullApi
+package org.vaadin.bakery.benchmarks;
@@ -0,0 +1,78 @@
+package org.vaadin.bakery.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal CSV (RFC 4180) support for order import and export.
+ * Fields may be quoted with double quotes, with {@code ""} for a literal quote, but may not span lines.
+ */
+public final class CsvUtils {
+
+    private CsvUtils() {
+    }
+
+    /**
+     * Splits one CSV line into its fields.
+     *
+     * @param line the line, without line terminator
+     * @return the unquoted fields; an empty line has one empty field
+     * @throws IllegalArgumentException if a quoted field is not closed
+     */
+    public static List<String> parseLine(String line) {
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        var quoted = false;
+        for (var i = 0; i < line.length(); i++) {
+            var c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unclosed quote");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Joins fields into one CSV line, quoting fields that contain a comma, quote or line break.
+     *
+     * @param fields the field values; null is written as an empty field
+     * @return the line, without line terminator
+     */
+    public static String formatLine(List<String> fields) {
+        var line = new StringBuilder();
+        for (var i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            var field = fields.get(i);
+            if (field == null) {
+                continue;
+            }
+            if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0
+                    || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                line.append('"').append(field.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(field);
+            }
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package org.vaadin.bakery.common.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Phone number normalization shared by persistence and search.
+ */
+public final class PhoneNumberUtils {
+
+    private PhoneNumberUtils() {
+    }
+
+    /**
+     * Returns only the digits of a phone number, e.g. {@code "+1 (212) 555-0101"} becomes {@code "12125550101"}.
+     *
+     * @param phoneNumber formatted phone number, may be null
+     * @return the digits, or an empty string if there are none
+     */
+    public static String digitsOf(String phoneNumber) {
+        if (phoneNumber == null) {
+            return "";
+        }
+        var digits = new StringBuilder(phoneNumber.length());
+        for (var i = 0; i < phoneNumber.length(); i++) {
+            var c = phoneNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Returns all suffixes of the digits, longest first.
+     * Any substring of the digits is a prefix of one of the suffixes,
+     * so substring search becomes an indexable prefix search.
+     *
+     * @param digits digits-only phone number
+     * @return the non-empty suffixes
+     */
+    public static Set<String> suffixesOf(String digits) {
+        var suffixes = new LinkedHashSet<String>();
+        for (var i = 0; i < digits.length(); i++) {
+            suffixes.add(digits.substring(i));
+        }
+        return suffixes;
+    }
+}
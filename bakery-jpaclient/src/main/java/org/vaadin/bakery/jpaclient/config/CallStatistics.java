@@ -0,0 +1,75 @@
+package org.vaadin.bakery.jpaclient.config;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Hibernate statistics that additionally count, per thread, the JDBC statements prepared and the rows fetched,
+ * so a caller can attribute database work to the method it ran. Rows are the result rows of queries plus one
+ * per entity or collection fetched by a select of its own (e.g. a lazy load or a lookup by ID).
+ * Statements issued directly through JDBC, such as the batched MERGE upserts, are not seen by Hibernate.
+ * The application registers it with {@code hibernate.stats.factory} (see {@link Factory}) together with
+ * {@code hibernate.generate_statistics}; the session factory wide totals are kept as usual.
+ */
+public class CallStatistics extends StatisticsImpl {
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private static final int STATEMENTS = 0;
+    private static final int ROWS = 1;
+
+    CallStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    /**
+     * Number of statements prepared on the current thread; only the difference between two reads is meaningful.
+     */
+    public static long statements() {
+        return COUNTS.get()[STATEMENTS];
+    }
+
+    /**
+     * Number of rows fetched on the current thread; only the difference between two reads is meaningful.
+     */
+    public static long rows() {
+        return COUNTS.get()[ROWS];
+    }
+
+    @Override
+    public void prepareStatement() {
+        super.prepareStatement();
+        COUNTS.get()[STATEMENTS]++;
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        COUNTS.get()[ROWS] += rows;
+    }
+
+    @Override
+    public void fetchEntity(String entityName) {
+        super.fetchEntity(entityName);
+        COUNTS.get()[ROWS]++;
+    }
+
+    @Override
+    public void fetchCollection(String role) {
+        super.fetchCollection(role);
+        COUNTS.get()[ROWS]++;
+    }
+
+    /**
+     * Creates {@link CallStatistics} for the session factory; named in {@code hibernate.stats.factory}.
+     */
+    public static class Factory implements StatisticsFactory {
+
+        @Override
+        public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+            return new CallStatistics(sessionFactory);
+        }
+    }
+}
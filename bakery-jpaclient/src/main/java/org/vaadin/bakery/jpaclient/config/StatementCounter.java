@@ -0,0 +1,53 @@
+package org.vaadin.bakery.jpaclient.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.function.Supplier;
+
+/**
+ * Hibernate statement inspector that counts the SQL statements prepared on the current thread.
+ * The service tests and benchmarks register it with
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} and wrap a service call in
+ * {@link #withBudget(int, Supplier)} to fail when it issues more statements than expected, e.g. after an
+ * N+1 regression. The application does not register it.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Number of statements prepared on the current thread since the last reset.
+     */
+    public static int count() {
+        return COUNT.get()[0];
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * Runs the action and throws if it prepared more than {@code budget} statements.
+     *
+     * @param budget maximum number of statements the action may issue
+     * @param action the action to measure, typically a service method call
+     * @return the action's result
+     * @throws IllegalStateException if the budget was exceeded
+     */
+    public static <T> T withBudget(int budget, Supplier<T> action) {
+        var before = count();
+        var result = action.get();
+        var issued = count() - before;
+        if (issued > budget) {
+            throw new IllegalStateException(
+                    "Statement budget exceeded: " + issued + " statements issued, budget " + budget);
+        }
+        return result;
+    }
+}
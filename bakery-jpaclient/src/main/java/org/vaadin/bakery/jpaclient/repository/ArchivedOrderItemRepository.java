@@ -0,0 +1,44 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.vaadin.bakery.jpamodel.entity.ArchivedOrderItemEntity;
+import org.vaadin.bakery.jpamodel.projection.OrderItemSummaryProjection;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the items of archived orders.
+ */
+@Repository
+public interface ArchivedOrderItemRepository extends JpaRepository<ArchivedOrderItemEntity, Long> {
+
+    /**
+     * Copies the items of several orders to the archive in one statement, keeping their IDs.
+     * The orders must have been copied first.
+     *
+     * @return the number of items copied
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_item_archive (id, version, status, quantity, details, " +
+                   "unit_price, line_total, order_id, product_id) " +
+                   "SELECT id, version, status, quantity, details, " +
+                   "unit_price, line_total, order_id, product_id " +
+                   "FROM order_item WHERE order_id IN :orderIds",
+           nativeQuery = true)
+    int copyFromOrderItems(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Items of several archived orders in one query, in the same shape as
+     * {@link OrderItemRepository#findProjectedByOrderIdIn}.
+     */
+    @Query("SELECT oi.id AS id, oi.order.id AS orderId, oi.quantity AS quantity, oi.details AS details, " +
+           "oi.unitPrice AS unitPrice, oi.lineTotal AS lineTotal, p.name AS productName, p.size AS productSize " +
+           "FROM ArchivedOrderItemEntity oi JOIN oi.product p " +
+           "WHERE oi.order.id IN :orderIds ORDER BY oi.order.id ASC, oi.id ASC")
+    List<OrderItemSummaryProjection> findProjectedByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
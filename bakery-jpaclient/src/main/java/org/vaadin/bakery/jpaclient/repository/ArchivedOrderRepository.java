@@ -0,0 +1,111 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+import org.vaadin.bakery.jpamodel.entity.ArchivedOrderEntity;
+import org.vaadin.bakery.jpamodel.projection.OrderDailySummaryProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderExportProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderListProjection;
+import org.vaadin.bakery.jpamodel.projection.ProductionPlanRowProjection;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository for archived orders. The read queries return the same projections as their
+ * {@link OrderRepository} counterparts, so callers can combine live and archived rows.
+ */
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrderEntity, Long> {
+
+    /**
+     * Copies several orders to the archive in one statement, keeping their IDs.
+     *
+     * @return the number of orders copied
+     */
+    @Modifying
+    @Query(value = "INSERT INTO customer_order_archive (id, version, status, due_date, due_time, " +
+                   "additional_details, total, discount, paid, customer_id, location_id, " +
+                   "created_at, updated_at, created_by_id, updated_by_id, archived_at) " +
+                   "SELECT id, version, status, due_date, due_time, " +
+                   "additional_details, total, discount, paid, customer_id, location_id, " +
+                   "created_at, updated_at, created_by_id, updated_by_id, :archivedAt " +
+                   "FROM customer_order WHERE id IN :ids",
+           nativeQuery = true)
+    int copyFromOrders(@Param("ids") Collection<Long> ids, @Param("archivedAt") Instant archivedAt);
+
+    @Query("SELECT o.id AS id, o.status AS status, o.dueDate AS dueDate, o.dueTime AS dueTime, " +
+           "o.total AS total, o.paid AS paid, o.createdAt AS createdAt, o.updatedAt AS updatedAt, " +
+           "o.version AS version, c.name AS customerName, l.name AS locationName " +
+           "FROM ArchivedOrderEntity o JOIN o.customer c JOIN o.location l " +
+           "WHERE c.id = :customerId " +
+           "ORDER BY o.dueDate DESC, o.dueTime DESC")
+    List<OrderListProjection> findListByCustomerId(@Param("customerId") Long customerId);
+
+    /**
+     * Archived order lines due in the date range, in the same order and shape as
+     * {@link OrderRepository#streamExportByDueDateBetween}. Must be consumed and closed within a transaction.
+     */
+    @Query("SELECT o.id AS orderId, o.status AS status, o.dueDate AS dueDate, o.dueTime AS dueTime, " +
+           "l.name AS locationName, c.name AS customerName, c.phoneNumber AS customerPhone, " +
+           "o.paid AS paid, o.total AS orderTotal, p.name AS productName, p.size AS productSize, " +
+           "i.quantity AS quantity, i.unitPrice AS unitPrice, i.lineTotal AS lineTotal, i.details AS details " +
+           "FROM ArchivedOrderEntity o JOIN o.items i JOIN i.product p JOIN o.customer c JOIN o.location l " +
+           "WHERE o.dueDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY o.dueDate ASC, o.dueTime ASC, o.id ASC, i.id ASC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<OrderExportProjection> streamExportByDueDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COUNT(i) FROM ArchivedOrderEntity o JOIN o.items i " +
+           "WHERE o.dueDate BETWEEN :startDate AND :endDate")
+    long countItemsByDueDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Archived part of {@link OrderRepository#summarizeByDueDateBetween}.
+     */
+    @Query("SELECT o.location.id AS locationId, o.dueDate AS dueDate, o.status AS status, " +
+           "COUNT(o) AS orderCount, SUM(o.total) AS totalAmount " +
+           "FROM ArchivedOrderEntity o " +
+           "WHERE o.dueDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY o.location.id, o.dueDate, o.status")
+    List<OrderDailySummaryProjection> summarizeByDueDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Archived part of {@link OrderRepository#summarizeItemsByDueDateBetween}.
+     */
+    @Query("SELECT o.location.id AS locationId, o.dueDate AS dueDate, HOUR(o.dueTime) AS pickupHour, " +
+           "i.product.id AS productId, SUM(i.quantity) AS quantity " +
+           "FROM ArchivedOrderEntity o JOIN o.items i " +
+           "WHERE o.dueDate BETWEEN :startDate AND :endDate AND o.status <> :excludedStatus " +
+           "GROUP BY o.location.id, o.dueDate, HOUR(o.dueTime), i.product.id")
+    List<ProductionPlanRowProjection> summarizeItemsByDueDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("excludedStatus") OrderStatusCode excludedStatus);
+
+    @Query("SELECT MIN(o.dueDate) FROM ArchivedOrderEntity o")
+    Optional<LocalDate> findEarliestDueDate();
+
+    @Query("SELECT MAX(o.dueDate) FROM ArchivedOrderEntity o")
+    Optional<LocalDate> findLatestDueDate();
+}
@@ -1,10 +1,14 @@
 package org.vaadin.bakery.jpaclient.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.vaadin.bakery.jpamodel.entity.CustomerEntity;
+import org.vaadin.bakery.jpamodel.projection.CustomerPhoneProjection;
 import org.vaadin.bakery.jpamodel.projection.CustomerSummaryProjection;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,25 +16,38 @@ import java.util.Optional;
  * Repository for customer entity operations.
  */
 @Repository
-public interface CustomerRepository extends JpaRepository<CustomerEntity, Long> {
+public interface CustomerRepository extends JpaRepository<CustomerEntity, Long>, CustomerUpserts {
 
-    Optional<CustomerEntity> findByPhoneNumber(String phoneNumber);
+    Optional<CustomerEntity> findByPhoneDigits(String phoneDigits);
 
     Optional<CustomerEntity> findByPhoneNumberAndActiveTrue(String phoneNumber);
 
     List<CustomerEntity> findByNameContainingIgnoreCaseAndActiveTrueOrderByName(String name);
 
-    boolean existsByPhoneNumber(String phoneNumber);
+    boolean existsByPhoneDigits(String phoneDigits);
 
-    boolean existsByPhoneNumberAndIdNot(String phoneNumber, Long id);
+    boolean existsByPhoneDigitsAndIdNot(String phoneDigits, Long id);
+
+    List<CustomerPhoneProjection> findByPhoneDigitsIn(Collection<String> phoneDigits);
 
     List<CustomerSummaryProjection> findByActiveTrueOrderByName();
 
     List<CustomerSummaryProjection> findByNameContainingIgnoreCaseAndActiveTrueOrderByName(String name, Class<CustomerSummaryProjection> type);
 
     /**
-     * Find all active customers for phone number filtering.
-     * Filtering by digits is done in the service layer.
+     * Active customers whose phone digits contain the searched digits, using a prefix match on the
+     * indexed phone suffixes (pattern {@code digits%}). Numbers starting with the digits rank first,
+     * then earlier matches within the number, then by name. Returns {@code limit} matches starting at
+     * {@code offset}, which need not be a multiple of the limit.
      */
-    List<CustomerEntity> findByActiveTrueOrderByPhoneNumber();
+    @Query("SELECT c.id AS id, c.name AS name, c.phoneNumber AS phoneNumber, c.email AS email " +
+           "FROM CustomerEntity c JOIN c.phoneSuffixes s " +
+           "WHERE c.active = true AND s LIKE :suffixPattern " +
+           "GROUP BY c.id, c.name, c.phoneNumber, c.email " +
+           "ORDER BY MAX(LENGTH(s)) DESC, c.name ASC, c.id ASC " +
+           "LIMIT :limit OFFSET :offset")
+    List<CustomerSummaryProjection> findByPhoneSuffixLike(
+            @Param("suffixPattern") String suffixPattern,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
 }
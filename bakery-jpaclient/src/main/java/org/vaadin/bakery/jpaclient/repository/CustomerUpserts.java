@@ -0,0 +1,24 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import java.util.List;
+
+/**
+ * Atomic creation of customers by phone number, mixed into {@link CustomerRepository}.
+ */
+public interface CustomerUpserts {
+
+    /**
+     * Creates active customers, with their phone suffixes, for the phone numbers whose digits have no customer
+     * yet, with batched MERGE statements; existing customers are left unchanged. Safe against concurrent
+     * transactions creating a customer with the same digits, which is then kept. Must run within a transaction.
+     *
+     * @return the number of customers created
+     */
+    int insertMissing(List<NewCustomer> customers);
+
+    /**
+     * A customer to create, unless one with the same phone digits exists.
+     */
+    record NewCustomer(String name, String phoneNumber) {
+    }
+}
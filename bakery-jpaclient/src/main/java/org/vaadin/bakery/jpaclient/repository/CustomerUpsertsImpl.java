@@ -0,0 +1,60 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.vaadin.bakery.common.util.PhoneNumberUtils;
+import org.vaadin.bakery.jpamodel.entity.AbstractEntity;
+
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link CustomerUpserts}.
+ */
+class CustomerUpsertsImpl implements CustomerUpserts {
+
+    private static final String MERGE_CUSTOMER =
+            "MERGE INTO customer c " +
+            "USING (VALUES (CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR))) " +
+            "d (name, phone_number, phone_digits) " +
+            "ON c.phone_digits = d.phone_digits " +
+            "WHEN NOT MATCHED THEN INSERT (id, version, name, phone_number, phone_digits, active, created_at) " +
+            "VALUES (NEXT VALUE FOR " + AbstractEntity.ID_SEQUENCE + ", 0, d.name, d.phone_number, d.phone_digits, " +
+            "TRUE, CURRENT_TIMESTAMP)";
+
+    private static final String MERGE_SUFFIX =
+            "MERGE INTO customer_phone_suffix s " +
+            "USING (SELECT c.id AS customer_id, CAST(? AS VARCHAR) AS suffix FROM customer c " +
+            "WHERE c.phone_digits = ?) d " +
+            "ON s.customer_id = d.customer_id AND s.suffix = d.suffix " +
+            "WHEN NOT MATCHED THEN INSERT (customer_id, suffix) VALUES (d.customer_id, d.suffix)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    CustomerUpsertsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertMissing(List<NewCustomer> customers) {
+        var created = MergeBatch.execute(jdbcTemplate, MERGE_CUSTOMER, customers, (statement, customer) -> {
+            statement.setString(1, customer.name());
+            statement.setString(2, customer.phoneNumber());
+            statement.setString(3, PhoneNumberUtils.digitsOf(customer.phoneNumber()));
+        });
+
+        // Suffixes of existing customers are already there, so only new customers get rows
+        var suffixes = customers.stream()
+                .map(customer -> PhoneNumberUtils.digitsOf(customer.phoneNumber()))
+                .distinct()
+                .flatMap(digits -> PhoneNumberUtils.suffixesOf(digits).stream()
+                        .map(suffix -> new PhoneSuffix(digits, suffix)))
+                .toList();
+        MergeBatch.execute(jdbcTemplate, MERGE_SUFFIX, suffixes, (statement, suffix) -> {
+            statement.setString(1, suffix.suffix());
+            statement.setString(2, suffix.digits());
+        });
+        return created;
+    }
+
+    private record PhoneSuffix(String digits, String suffix) {
+    }
+}
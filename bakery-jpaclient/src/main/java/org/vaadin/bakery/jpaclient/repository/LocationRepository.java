@@ -18,8 +18,6 @@ public interface LocationRepository extends JpaRepository<LocationEntity, Long>
 
     boolean existsByNameAndIdNot(String name, Long id);
 
-    List<LocationEntity> findByActiveTrueOrderBySortOrderAsc();
-
     long countByActiveTrue();
 
     List<LocationSummaryProjection> findAllProjectedByOrderBySortOrderAsc();
@@ -0,0 +1,59 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs an upsert (MERGE) statement as one JDBC batch on the connection of the current transaction.
+ * <p>
+ * Two transactions can both find a key missing and both insert it; the second then fails on the unique key
+ * once the first commits. The batch runs under a savepoint and is retried in that case, when it finds the
+ * committed row and updates it, so a concurrent first write of a key never fails the caller's transaction.
+ */
+final class MergeBatch {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    // Unique key violation (standard), H2 concurrent update and H2 lock timeout on the uncommitted key
+    private static final List<String> CONCURRENT_INSERT_STATES = List.of("23505", "90131", "HYT00");
+
+    private MergeBatch() {
+    }
+
+    /**
+     * Executes the statement once per row as one batch. Must run within a transaction.
+     *
+     * @return the number of rows inserted or updated
+     */
+    static <T> int execute(JdbcTemplate jdbcTemplate, String sql, List<T> rows,
+                           ParameterizedPreparedStatementSetter<T> setter) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        var changed = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            for (var attempt = 1; ; attempt++) {
+                var savepoint = connection.setSavepoint();
+                try (var statement = connection.prepareStatement(sql)) {
+                    for (var row : rows) {
+                        setter.setValues(statement, row);
+                        statement.addBatch();
+                    }
+                    var counts = statement.executeBatch();
+                    connection.releaseSavepoint(savepoint);
+                    return Arrays.stream(counts).filter(count -> count > 0).sum();
+                } catch (SQLException e) {
+                    connection.rollback(savepoint);
+                    if (attempt == MAX_ATTEMPTS || !CONCURRENT_INSERT_STATES.contains(e.getSQLState())) {
+                        throw e;
+                    }
+                }
+            }
+        });
+        return changed != null ? changed : 0;
+    }
+}
@@ -0,0 +1,52 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+import org.vaadin.bakery.jpamodel.entity.OrderDailySummaryEntity;
+import org.vaadin.bakery.jpamodel.projection.OrderDailyCountProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderMonthlyCountProjection;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for the daily order summary rollup.
+ */
+@Repository
+public interface OrderDailySummaryRepository extends JpaRepository<OrderDailySummaryEntity, Long>,
+        OrderDailySummaryUpserts {
+
+    @Modifying
+    @Query("DELETE FROM OrderDailySummaryEntity s WHERE s.summaryDate BETWEEN :startDate AND :endDate")
+    int deleteBySummaryDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COALESCE(SUM(s.orderCount), 0) FROM OrderDailySummaryEntity s " +
+           "WHERE s.summaryDate BETWEEN :startDate AND :endDate AND s.status = :status")
+    long sumOrderCountBySummaryDateBetweenAndStatus(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("status") OrderStatusCode status);
+
+    @Query("SELECT s.summaryDate AS dueDate, SUM(s.orderCount) AS orderCount FROM OrderDailySummaryEntity s " +
+           "WHERE s.summaryDate BETWEEN :startDate AND :endDate AND s.status = :status " +
+           "GROUP BY s.summaryDate " +
+           "ORDER BY s.summaryDate ASC")
+    List<OrderDailyCountProjection> sumDailyBySummaryDateBetweenAndStatus(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("status") OrderStatusCode status);
+
+    @Query("SELECT YEAR(s.summaryDate) AS dueYear, MONTH(s.summaryDate) AS dueMonth, SUM(s.orderCount) AS orderCount " +
+           "FROM OrderDailySummaryEntity s " +
+           "WHERE s.summaryDate BETWEEN :startDate AND :endDate AND s.status = :status " +
+           "GROUP BY YEAR(s.summaryDate), MONTH(s.summaryDate) " +
+           "ORDER BY YEAR(s.summaryDate) ASC, MONTH(s.summaryDate) ASC")
+    List<OrderMonthlyCountProjection> sumMonthlyBySummaryDateBetweenAndStatus(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("status") OrderStatusCode status);
+}
@@ -0,0 +1,26 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Atomic maintenance of the daily order summary rollup, mixed into {@link OrderDailySummaryRepository}.
+ */
+public interface OrderDailySummaryUpserts {
+
+    /**
+     * Adds the deltas to their summary rows, creating missing rows, with one batched MERGE statement.
+     * Safe against concurrent transactions creating the same row. Must run within a transaction.
+     */
+    void applyDeltas(List<SummaryDelta> deltas);
+
+    /**
+     * A change of order count and revenue for one location, date and status.
+     */
+    record SummaryDelta(Long locationId, LocalDate summaryDate, OrderStatusCode status, long countDelta,
+                        BigDecimal amountDelta) {
+    }
+}
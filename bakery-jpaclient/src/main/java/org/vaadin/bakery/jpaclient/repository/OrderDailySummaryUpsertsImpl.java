@@ -0,0 +1,42 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.vaadin.bakery.jpamodel.entity.AbstractEntity;
+
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link OrderDailySummaryUpserts}.
+ */
+class OrderDailySummaryUpsertsImpl implements OrderDailySummaryUpserts {
+
+    private static final String MERGE =
+            "MERGE INTO order_daily_summary s " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS VARCHAR), " +
+            "CAST(? AS BIGINT), CAST(? AS NUMERIC(14, 2)))) " +
+            "d (location_id, summary_date, status, count_delta, amount_delta) " +
+            "ON s.location_id = d.location_id AND s.summary_date = d.summary_date AND s.status = d.status " +
+            "WHEN MATCHED THEN UPDATE SET order_count = s.order_count + d.count_delta, " +
+            "total_amount = s.total_amount + d.amount_delta " +
+            "WHEN NOT MATCHED THEN INSERT (id, version, location_id, summary_date, status, order_count, total_amount) " +
+            "VALUES (NEXT VALUE FOR " + AbstractEntity.ID_SEQUENCE + ", 0, d.location_id, d.summary_date, d.status, " +
+            "d.count_delta, d.amount_delta)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    OrderDailySummaryUpsertsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void applyDeltas(List<SummaryDelta> deltas) {
+        MergeBatch.execute(jdbcTemplate, MERGE, deltas, (statement, delta) -> {
+            statement.setLong(1, delta.locationId());
+            statement.setDate(2, Date.valueOf(delta.summaryDate()));
+            statement.setString(3, delta.status().name());
+            statement.setLong(4, delta.countDelta());
+            statement.setBigDecimal(5, delta.amountDelta());
+        });
+    }
+}
@@ -7,7 +7,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.vaadin.bakery.jpamodel.entity.OrderItemEntity;
 import org.vaadin.bakery.jpamodel.projection.OrderItemSummaryProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderProductQuantityProjection;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -22,9 +24,34 @@ public interface OrderItemRepository extends JpaRepository<OrderItemEntity, Long
     @Query("DELETE FROM OrderItemEntity oi WHERE oi.order.id = :orderId")
     void deleteByOrderId(@Param("orderId") Long orderId);
 
-    @Query("SELECT oi.id AS id, oi.quantity AS quantity, oi.details AS details, oi.unitPrice AS unitPrice, " +
-           "oi.lineTotal AS lineTotal, p.name AS productName, p.size AS productSize " +
+    @Query("SELECT oi.id AS id, oi.order.id AS orderId, oi.quantity AS quantity, oi.details AS details, " +
+           "oi.unitPrice AS unitPrice, oi.lineTotal AS lineTotal, p.name AS productName, p.size AS productSize " +
            "FROM OrderItemEntity oi JOIN oi.product p " +
            "WHERE oi.order.id = :orderId ORDER BY oi.id ASC")
     List<OrderItemSummaryProjection> findProjectedByOrderId(@Param("orderId") Long orderId);
+
+    /**
+     * Items of several orders in one query, for attaching to a list of order projections.
+     */
+    @Query("SELECT oi.id AS id, oi.order.id AS orderId, oi.quantity AS quantity, oi.details AS details, " +
+           "oi.unitPrice AS unitPrice, oi.lineTotal AS lineTotal, p.name AS productName, p.size AS productSize " +
+           "FROM OrderItemEntity oi JOIN oi.product p " +
+           "WHERE oi.order.id IN :orderIds ORDER BY oi.order.id ASC, oi.id ASC")
+    List<OrderItemSummaryProjection> findProjectedByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Item quantities per order and product for several orders, for moving their production plan contributions.
+     */
+    @Query("SELECT oi.order.id AS orderId, oi.product.id AS productId, SUM(oi.quantity) AS quantity " +
+           "FROM OrderItemEntity oi " +
+           "WHERE oi.order.id IN :orderIds " +
+           "GROUP BY oi.order.id, oi.product.id")
+    List<OrderProductQuantityProjection> sumQuantityByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Deletes the items of several orders in one statement, once they have been copied to the archive.
+     */
+    @Modifying
+    @Query("DELETE FROM OrderItemEntity oi WHERE oi.order.id IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -1,16 +1,34 @@
 package org.vaadin.bakery.jpaclient.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
 import org.vaadin.bakery.jpamodel.entity.OrderEntity;
+import org.vaadin.bakery.jpamodel.projection.HeadlineKpiProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderDailySummaryProjection;
 import org.vaadin.bakery.jpamodel.projection.OrderDashboardProjection;
-import org.vaadin.bakery.jpamodel.projection.OrderTimeProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderExportProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderListProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderStatusStateProjection;
+import org.vaadin.bakery.jpamodel.projection.ProductionPlanRowProjection;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for order entity operations.
@@ -18,65 +36,253 @@ import java.util.List;
 @Repository
 public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
 
-    List<OrderEntity> findByStatus(OrderStatusCode status);
+    /**
+     * The order with everything the order detail shows, in one statement.
+     */
+    @EntityGraph(OrderEntity.DETAIL_GRAPH)
+    Optional<OrderEntity> findDetailById(Long id);
 
-    List<OrderEntity> findByDueDateOrderByDueTimeAsc(LocalDate dueDate);
+    @Query("SELECT o.id AS id, o.status AS status, o.dueDate AS dueDate, o.dueTime AS dueTime, " +
+           "o.total AS total, o.paid AS paid, o.createdAt AS createdAt, o.updatedAt AS updatedAt, " +
+           "o.version AS version, c.name AS customerName, l.name AS locationName " +
+           "FROM OrderEntity o JOIN o.customer c JOIN o.location l " +
+           "WHERE o.dueDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY o.dueDate ASC, o.dueTime ASC")
+    List<OrderListProjection> findListByDueDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Order lines due in the date range with their order's fields, in due order, read through a
+     * forward-only cursor. Must be consumed and closed within a transaction.
+     */
+    @Query("SELECT o.id AS orderId, o.status AS status, o.dueDate AS dueDate, o.dueTime AS dueTime, " +
+           "l.name AS locationName, c.name AS customerName, c.phoneNumber AS customerPhone, " +
+           "o.paid AS paid, o.total AS orderTotal, p.name AS productName, p.size AS productSize, " +
+           "i.quantity AS quantity, i.unitPrice AS unitPrice, i.lineTotal AS lineTotal, i.details AS details " +
+           "FROM OrderEntity o JOIN o.items i JOIN i.product p JOIN o.customer c JOIN o.location l " +
+           "WHERE o.dueDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY o.dueDate ASC, o.dueTime ASC, o.id ASC, i.id ASC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<OrderExportProjection> streamExportByDueDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COUNT(i) FROM OrderEntity o JOIN o.items i WHERE o.dueDate BETWEEN :startDate AND :endDate")
+    long countItemsByDueDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
 
-    List<OrderEntity> findByDueDateBetweenOrderByDueDateAscDueTimeAsc(LocalDate startDate, LocalDate endDate);
+    @Query("SELECT o.id AS id, o.status AS status, o.dueDate AS dueDate, o.dueTime AS dueTime, " +
+           "o.total AS total, o.paid AS paid, o.createdAt AS createdAt, o.updatedAt AS updatedAt, " +
+           "o.version AS version, c.name AS customerName, l.name AS locationName " +
+           "FROM OrderEntity o JOIN o.customer c JOIN o.location l " +
+           "WHERE o.status = :status " +
+           "ORDER BY o.dueDate ASC, o.dueTime ASC")
+    List<OrderListProjection> findListByStatus(@Param("status") OrderStatusCode status);
 
-    List<OrderEntity> findByCustomerIdOrderByDueDateDescDueTimeDesc(Long customerId);
+    @Query("SELECT o.id AS id, o.status AS status, o.dueDate AS dueDate, o.dueTime AS dueTime, " +
+           "o.total AS total, o.paid AS paid, o.createdAt AS createdAt, o.updatedAt AS updatedAt, " +
+           "o.version AS version, c.name AS customerName, l.name AS locationName " +
+           "FROM OrderEntity o JOIN o.customer c JOIN o.location l " +
+           "WHERE c.id = :customerId " +
+           "ORDER BY o.dueDate DESC, o.dueTime DESC")
+    List<OrderListProjection> findListByCustomerId(@Param("customerId") Long customerId);
 
     long countByStatus(OrderStatusCode status);
 
     long countByDueDate(LocalDate dueDate);
 
-    long countByDueDateAndStatusNot(LocalDate dueDate, OrderStatusCode status);
-
     long countByDueDateAndStatusNotIn(LocalDate dueDate, List<OrderStatusCode> statuses);
 
-    @Query("SELECT o.dueDate AS dueDate, o.dueTime AS dueTime FROM OrderEntity o " +
-           "WHERE o.dueDate = :dueDate AND o.status NOT IN :excludedStatuses " +
-           "ORDER BY o.dueTime ASC")
-    List<OrderTimeProjection> findNextPickupTimeByDate(
-            @Param("dueDate") LocalDate dueDate,
+    /**
+     * All headline dashboard KPIs in one statement. Each figure is a scalar subquery restricted either by due
+     * date or by status alone, so each can use the (due_date, due_time) or (status, due_date) index instead of
+     * one scan filtered by {@code dueDate BETWEEN ... OR status = ...}. Orders in an excluded status do not
+     * count as remaining or as pickups.
+     */
+    @Query("SELECT " +
+           "(SELECT COUNT(o) FROM OrderEntity o " +
+           "WHERE o.dueDate = :today AND o.status NOT IN :excludedStatuses) AS remainingTodayCount, " +
+           "(SELECT MIN(o.dueTime) FROM OrderEntity o " +
+           "WHERE o.dueDate = :today AND o.dueTime > :now AND o.status NOT IN :excludedStatuses) " +
+           "AS nextPickupTime, " +
+           "(SELECT COUNT(o) FROM OrderEntity o WHERE o.status = :newStatus) AS newOrdersCount, " +
+           "(SELECT MAX(o.createdAt) FROM OrderEntity o WHERE o.status = :newStatus) AS lastNewOrderTime, " +
+           "(SELECT COUNT(o) FROM OrderEntity o " +
+           "WHERE o.dueDate = :tomorrow AND o.status NOT IN :excludedStatuses) AS tomorrowCount, " +
+           "(SELECT MIN(o.dueTime) FROM OrderEntity o " +
+           "WHERE o.dueDate = :tomorrow AND o.status NOT IN :excludedStatuses) AS firstPickupTimeTomorrow, " +
+           "(SELECT COUNT(p) FROM ProductEntity p WHERE p.available = false) AS unavailableProductsCount")
+    HeadlineKpiProjection summarizeHeadlineKpis(
+            @Param("today") LocalDate today,
+            @Param("tomorrow") LocalDate tomorrow,
+            @Param("now") LocalTime now,
+            @Param("newStatus") OrderStatusCode newStatus,
             @Param("excludedStatuses") List<OrderStatusCode> excludedStatuses);
 
-    @Query("SELECT o FROM OrderEntity o " +
-           "LEFT JOIN FETCH o.customer " +
-           "LEFT JOIN FETCH o.location " +
-           "LEFT JOIN FETCH o.items i " +
-           "LEFT JOIN FETCH i.product " +
-           "WHERE o.dueDate >= :startDate " +
-           "ORDER BY o.dueDate ASC, o.dueTime ASC")
-    List<OrderEntity> findUpcomingOrdersWithDetails(@Param("startDate") LocalDate startDate);
+    /**
+     * IDs of the keyset page of orders after the (dueDate, dueTime, id) cursor.
+     * Paging the IDs alone keeps the limit in SQL, where fetching the items along would multiply the rows.
+     */
+    @Query("SELECT o.id FROM OrderEntity o " +
+           "WHERE o.dueDate > :afterDueDate " +
+           "OR (o.dueDate = :afterDueDate AND (o.dueTime > :afterDueTime " +
+           "OR (o.dueTime = :afterDueTime AND o.id > :afterId))) " +
+           "ORDER BY o.dueDate ASC, o.dueTime ASC, o.id ASC")
+    List<Long> findUpcomingIdsAfter(
+            @Param("afterDueDate") LocalDate afterDueDate,
+            @Param("afterDueTime") LocalTime afterDueTime,
+            @Param("afterId") Long afterId,
+            Limit limit);
 
+    /**
+     * The given orders with customer, location and items with their products, in one statement.
+     */
+    @EntityGraph(OrderEntity.LIST_GRAPH)
     @Query("SELECT o FROM OrderEntity o " +
-           "LEFT JOIN FETCH o.customer " +
-           "LEFT JOIN FETCH o.location " +
+           "WHERE o.id IN :ids " +
+           "ORDER BY o.dueDate ASC, o.dueTime ASC, o.id ASC")
+    List<OrderEntity> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset page of storefront orders after the (dueDate, dueTime, id) cursor.
+     * A null location ID matches all locations; the customer name pattern is a lower-case LIKE pattern
+     * with {@code !} as the escape character.
+     */
+    @Query("SELECT o.id AS id, o.status AS status, o.dueDate AS dueDate, o.dueTime AS dueTime, " +
+           "o.total AS total, o.paid AS paid, o.createdAt AS createdAt, o.updatedAt AS updatedAt, " +
+           "o.version AS version, c.name AS customerName, l.name AS locationName " +
+           "FROM OrderEntity o JOIN o.customer c JOIN o.location l " +
+           "WHERE o.dueDate BETWEEN :startDate AND :endDate " +
+           "AND o.status IN :statuses " +
+           "AND (:locationId IS NULL OR l.id = :locationId) " +
+           "AND LOWER(c.name) LIKE :customerNamePattern ESCAPE '!' " +
+           "AND (o.dueDate > :afterDueDate " +
+           "OR (o.dueDate = :afterDueDate AND (o.dueTime > :afterDueTime " +
+           "OR (o.dueTime = :afterDueTime AND o.id > :afterId)))) " +
+           "ORDER BY o.dueDate ASC, o.dueTime ASC, o.id ASC")
+    List<OrderListProjection> findPageAfter(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("statuses") List<OrderStatusCode> statuses,
+            @Param("locationId") Long locationId,
+            @Param("customerNamePattern") String customerNamePattern,
+            @Param("afterDueDate") LocalDate afterDueDate,
+            @Param("afterDueTime") LocalTime afterDueTime,
+            @Param("afterId") Long afterId,
+            Limit limit);
+
+    /**
+     * The given storefront orders that match the same filter as {@link #findPageAfter}.
+     */
+    @Query("SELECT o.id AS id, o.status AS status, o.dueDate AS dueDate, o.dueTime AS dueTime, " +
+           "o.total AS total, o.paid AS paid, o.createdAt AS createdAt, o.updatedAt AS updatedAt, " +
+           "o.version AS version, c.name AS customerName, l.name AS locationName " +
+           "FROM OrderEntity o JOIN o.customer c JOIN o.location l " +
+           "WHERE o.id IN :ids " +
+           "AND o.dueDate BETWEEN :startDate AND :endDate " +
+           "AND o.status IN :statuses " +
+           "AND (:locationId IS NULL OR l.id = :locationId) " +
+           "AND LOWER(c.name) LIKE :customerNamePattern ESCAPE '!'")
+    List<OrderListProjection> findMatchingByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("statuses") List<OrderStatusCode> statuses,
+            @Param("locationId") Long locationId,
+            @Param("customerNamePattern") String customerNamePattern);
+
+    /**
+     * IDs of the first orders due on the date, by pickup time, leaving out excluded statuses.
+     * Details are fetched for just these IDs with {@link #findWithDetailsByIdIn}.
+     */
+    @Query("SELECT o.id FROM OrderEntity o " +
            "WHERE o.dueDate = :dueDate AND o.status NOT IN :excludedStatuses " +
-           "ORDER BY o.dueTime ASC")
-    List<OrderEntity> findDashboardOrdersByDate(
+           "ORDER BY o.dueTime ASC, o.id ASC")
+    List<Long> findDashboardIdsByDate(
             @Param("dueDate") LocalDate dueDate,
-            @Param("excludedStatuses") List<OrderStatusCode> excludedStatuses);
+            @Param("excludedStatuses") List<OrderStatusCode> excludedStatuses,
+            Limit limit);
+
+    /**
+     * Version, status and rollup keys of several orders, locked until the end of the transaction so that
+     * they cannot change between checking them and {@link #updateStatusByIdIn}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id AS id, o.version AS version, o.status AS status, o.location.id AS locationId, " +
+           "o.dueDate AS dueDate, o.dueTime AS dueTime, o.total AS total " +
+           "FROM OrderEntity o " +
+           "WHERE o.id IN :ids")
+    List<OrderStatusStateProjection> findStatusStatesForUpdateByIdIn(@Param("ids") Collection<Long> ids);
 
-    @Query("SELECT COUNT(o) FROM OrderEntity o " +
+    /**
+     * Sets the status of several orders in one statement, incrementing their versions.
+     *
+     * @return the number of orders updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OrderEntity o " +
+           "SET o.status = :status, o.version = o.version + 1, o.updatedAt = :updatedAt " +
+           "WHERE o.id IN :ids")
+    int updateStatusByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") OrderStatusCode status,
+            @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * IDs of orders in one of the given statuses due before the cutoff, oldest first, for moving them to the
+     * archive a chunk at a time (index on status and due date).
+     */
+    @Query("SELECT o.id FROM OrderEntity o " +
+           "WHERE o.status IN :statuses AND o.dueDate < :before " +
+           "ORDER BY o.dueDate ASC, o.id ASC")
+    List<Long> findArchivableIds(
+            @Param("statuses") List<OrderStatusCode> statuses,
+            @Param("before") LocalDate before,
+            Limit limit);
+
+    /**
+     * Deletes several orders in one statement, once they and their items have been copied to the archive.
+     */
+    @Modifying
+    @Query("DELETE FROM OrderEntity o WHERE o.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Aggregates orders per location, due date and status for rebuilding the daily summary rollup.
+     */
+    @Query("SELECT o.location.id AS locationId, o.dueDate AS dueDate, o.status AS status, " +
+           "COUNT(o) AS orderCount, SUM(o.total) AS totalAmount " +
+           "FROM OrderEntity o " +
            "WHERE o.dueDate BETWEEN :startDate AND :endDate " +
-           "AND o.status = :status")
-    long countByDueDateBetweenAndStatus(
+           "GROUP BY o.location.id, o.dueDate, o.status")
+    List<OrderDailySummaryProjection> summarizeByDueDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Aggregates item quantities per location, due date, pickup hour and product for rebuilding the
+     * production plan rollup. Cancelled orders are left out.
+     */
+    @Query("SELECT o.location.id AS locationId, o.dueDate AS dueDate, HOUR(o.dueTime) AS pickupHour, " +
+           "i.product.id AS productId, SUM(i.quantity) AS quantity " +
+           "FROM OrderEntity o JOIN o.items i " +
+           "WHERE o.dueDate BETWEEN :startDate AND :endDate AND o.status <> :excludedStatus " +
+           "GROUP BY o.location.id, o.dueDate, HOUR(o.dueTime), i.product.id")
+    List<ProductionPlanRowProjection> summarizeItemsByDueDateBetween(
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
-            @Param("status") OrderStatusCode status);
-
-    @Query("SELECT COUNT(o) FROM OrderEntity o " +
-           "WHERE YEAR(o.dueDate) = :year AND o.status = :status")
-    long countByYearAndStatus(@Param("year") int year, @Param("status") OrderStatusCode status);
-
-    @Query("SELECT COUNT(o) FROM OrderEntity o " +
-           "WHERE YEAR(o.dueDate) = :year AND MONTH(o.dueDate) = :month AND o.status = :status")
-    long countByYearAndMonthAndStatus(
-            @Param("year") int year,
-            @Param("month") int month,
-            @Param("status") OrderStatusCode status);
+            @Param("excludedStatus") OrderStatusCode excludedStatus);
+
+    @Query("SELECT MIN(o.dueDate) FROM OrderEntity o")
+    Optional<LocalDate> findEarliestDueDate();
+
+    @Query("SELECT MAX(o.dueDate) FROM OrderEntity o")
+    Optional<LocalDate> findLatestDueDate();
 
     boolean existsByCustomerIdAndStatusIn(Long customerId, List<OrderStatusCode> statuses);
 
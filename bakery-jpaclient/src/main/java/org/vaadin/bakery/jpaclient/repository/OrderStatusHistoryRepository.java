@@ -0,0 +1,56 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.vaadin.bakery.jpamodel.entity.OrderStatusHistoryEntity;
+import org.vaadin.bakery.jpamodel.projection.StatusDurationProjection;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository for the append-only order status history.
+ */
+@Repository
+public interface OrderStatusHistoryRepository extends JpaRepository<OrderStatusHistoryEntity, Long> {
+
+    /**
+     * Median and 90th percentile minutes from first entering {@code fromStatus} to first entering
+     * {@code toStatus}, per location and product, for orders that reached {@code toStatus} in the
+     * time window. Only the window's transitions are scanned (index on status and changed_at), and the
+     * matching earlier transition is found per order (index on order_id and status), so the cost does
+     * not grow with the total history. Each order is looked up in the live and the archive tables, so
+     * archived orders still count, and its duration counts once per product it contains, however many
+     * line items of that product it has.
+     */
+    @Query(value = "SELECT l.name AS locationName, p.name AS productName, " +
+                   "COUNT(DISTINCT op.order_id) AS orderCount, " +
+                   "CAST(PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY op.seconds) / 60.0 AS DOUBLE PRECISION) AS medianMinutes, " +
+                   "CAST(PERCENTILE_CONT(0.9) WITHIN GROUP (ORDER BY op.seconds) / 60.0 AS DOUBLE PRECISION) AS p90Minutes " +
+                   "FROM (SELECT DISTINCT d.order_id AS order_id, d.seconds AS seconds, " +
+                   "             COALESCE(o.location_id, ao.location_id) AS location_id, " +
+                   "             COALESCE(i.product_id, ai.product_id) AS product_id " +
+                   "      FROM (SELECT t.order_id AS order_id, " +
+                   "                   DATEDIFF('SECOND', MIN(f.changed_at), MIN(t.changed_at)) AS seconds " +
+                   "            FROM order_status_history t " +
+                   "            JOIN order_status_history f ON f.order_id = t.order_id AND f.status = :fromStatus " +
+                   "            WHERE t.status = :toStatus AND t.changed_at >= :since AND t.changed_at < :until " +
+                   "              AND f.changed_at <= t.changed_at " +
+                   "            GROUP BY t.order_id) d " +
+                   "      LEFT JOIN customer_order o ON o.id = d.order_id " +
+                   "      LEFT JOIN customer_order_archive ao ON ao.id = d.order_id " +
+                   "      LEFT JOIN order_item i ON i.order_id = o.id " +
+                   "      LEFT JOIN order_item_archive ai ON ai.order_id = ao.id) op " +
+                   "JOIN location l ON l.id = op.location_id " +
+                   "JOIN product p ON p.id = op.product_id " +
+                   "GROUP BY l.name, p.name " +
+                   "ORDER BY l.name, p.name",
+           nativeQuery = true)
+    List<StatusDurationProjection> summarizeDurations(
+            @Param("fromStatus") String fromStatus,
+            @Param("toStatus") String toStatus,
+            @Param("since") Instant since,
+            @Param("until") Instant until);
+}
@@ -3,6 +3,7 @@ package org.vaadin.bakery.jpaclient.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import org.vaadin.bakery.jpamodel.entity.ProductEntity;
+import org.vaadin.bakery.jpamodel.projection.PhotoMetadataProjection;
 import org.vaadin.bakery.jpamodel.projection.ProductSelectProjection;
 import org.vaadin.bakery.jpamodel.projection.ProductSummaryProjection;
 
@@ -28,4 +29,6 @@ public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
     List<ProductSummaryProjection> findAllProjectedByOrderByNameAsc();
 
     List<ProductSelectProjection> findByAvailableTrueOrderByNameAsc(Class<ProductSelectProjection> type);
+
+    Optional<PhotoMetadataProjection> findPhotoMetadataById(Long id);
 }
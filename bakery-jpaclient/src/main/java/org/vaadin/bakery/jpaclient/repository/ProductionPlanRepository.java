@@ -0,0 +1,47 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+import org.vaadin.bakery.jpamodel.entity.ProductionPlanEntity;
+import org.vaadin.bakery.jpamodel.projection.ProductQuantityProjection;
+import org.vaadin.bakery.jpamodel.projection.ProductionPlanLineProjection;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for the production plan rollup.
+ */
+@Repository
+public interface ProductionPlanRepository extends JpaRepository<ProductionPlanEntity, Long>, ProductionPlanUpserts {
+
+    @Modifying
+    @Query("DELETE FROM ProductionPlanEntity r WHERE r.planDate BETWEEN :startDate AND :endDate")
+    int deleteByPlanDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * The plan of one day, optionally for one location, by pickup hour, location and product.
+     */
+    @Query("SELECT r.pickupHour AS pickupHour, l.name AS locationName, " +
+           "p.name AS productName, p.size AS productSize, r.quantity AS quantity " +
+           "FROM ProductionPlanEntity r JOIN r.location l JOIN r.product p " +
+           "WHERE r.planDate = :planDate AND (:locationId IS NULL OR l.id = :locationId) AND r.quantity > 0 " +
+           "ORDER BY r.pickupHour ASC, l.sortOrder ASC, l.name ASC, p.name ASC")
+    List<ProductionPlanLineProjection> findLinesByPlanDate(
+            @Param("planDate") LocalDate planDate,
+            @Nullable @Param("locationId") Long locationId);
+
+    @Query("SELECT p.name AS productName, SUM(r.quantity) AS quantity " +
+           "FROM ProductionPlanEntity r JOIN r.product p " +
+           "WHERE r.planDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY p.name " +
+           "HAVING SUM(r.quantity) > 0 " +
+           "ORDER BY SUM(r.quantity) DESC, p.name ASC")
+    List<ProductQuantityProjection> sumQuantityByProductAndPlanDateBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,22 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Atomic maintenance of the production plan rollup, mixed into {@link ProductionPlanRepository}.
+ */
+public interface ProductionPlanUpserts {
+
+    /**
+     * Adds the deltas to their plan rows, creating missing rows, with one batched MERGE statement.
+     * Safe against concurrent transactions creating the same row. Must run within a transaction.
+     */
+    void applyDeltas(List<PlanDelta> deltas);
+
+    /**
+     * A change of quantity for one location, date, pickup hour and product.
+     */
+    record PlanDelta(Long locationId, LocalDate planDate, int pickupHour, Long productId, long quantityDelta) {
+    }
+}
@@ -0,0 +1,42 @@
+package org.vaadin.bakery.jpaclient.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.vaadin.bakery.jpamodel.entity.AbstractEntity;
+
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link ProductionPlanUpserts}.
+ */
+class ProductionPlanUpsertsImpl implements ProductionPlanUpserts {
+
+    private static final String MERGE =
+            "MERGE INTO production_plan r " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS INTEGER), " +
+            "CAST(? AS BIGINT), CAST(? AS BIGINT))) " +
+            "d (location_id, plan_date, pickup_hour, product_id, quantity_delta) " +
+            "ON r.location_id = d.location_id AND r.plan_date = d.plan_date " +
+            "AND r.pickup_hour = d.pickup_hour AND r.product_id = d.product_id " +
+            "WHEN MATCHED THEN UPDATE SET quantity = r.quantity + d.quantity_delta " +
+            "WHEN NOT MATCHED THEN INSERT (id, version, location_id, plan_date, pickup_hour, product_id, quantity) " +
+            "VALUES (NEXT VALUE FOR " + AbstractEntity.ID_SEQUENCE + ", 0, d.location_id, d.plan_date, " +
+            "d.pickup_hour, d.product_id, d.quantity_delta)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProductionPlanUpsertsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void applyDeltas(List<PlanDelta> deltas) {
+        MergeBatch.execute(jdbcTemplate, MERGE, deltas, (statement, delta) -> {
+            statement.setLong(1, delta.locationId());
+            statement.setDate(2, Date.valueOf(delta.planDate()));
+            statement.setInt(3, delta.pickupHour());
+            statement.setLong(4, delta.productId());
+            statement.setLong(5, delta.quantityDelta());
+        });
+    }
+}
@@ -1,9 +1,13 @@
 package org.vaadin.bakery.jpaclient.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.vaadin.bakery.jpamodel.code.UserRoleCode;
 import org.vaadin.bakery.jpamodel.entity.UserEntity;
+import org.vaadin.bakery.jpamodel.projection.PhotoMetadataProjection;
+import org.vaadin.bakery.jpamodel.projection.UserCredentialsProjection;
 import org.vaadin.bakery.jpamodel.projection.UserSummaryProjection;
 
 import java.util.List;
@@ -19,6 +23,8 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     Optional<UserEntity> findByEmailIgnoreCase(String email);
 
+    Optional<UserCredentialsProjection> findCredentialsByEmailIgnoreCase(String email);
+
     boolean existsByEmail(String email);
 
     boolean existsByEmailAndIdNot(String email, Long id);
@@ -29,7 +35,18 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     long countByRole(UserRoleCode role);
 
+    @Query("SELECT u.id AS id, u.email AS email, u.firstName AS firstName, u.lastName AS lastName, " +
+           "u.role AS role, u.photoContentType AS photoContentType, u.version AS version, " +
+           "u.primaryLocation.id AS primaryLocationId " +
+           "FROM UserEntity u")
     List<UserSummaryProjection> findAllProjectedBy();
 
-    List<UserSummaryProjection> findByRoleOrderByLastNameAscFirstNameAsc(UserRoleCode role, Class<UserSummaryProjection> type);
+    @Query("SELECT u.id AS id, u.email AS email, u.firstName AS firstName, u.lastName AS lastName, " +
+           "u.role AS role, u.photoContentType AS photoContentType, u.version AS version, " +
+           "u.primaryLocation.id AS primaryLocationId " +
+           "FROM UserEntity u " +
+           "WHERE LOWER(u.email) = LOWER(:email)")
+    Optional<UserSummaryProjection> findSummaryByEmailIgnoreCase(@Param("email") String email);
+
+    Optional<PhotoMetadataProjection> findPhotoMetadataById(Long id);
 }
@@ -5,18 +5,33 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Version;
 
 import java.util.Objects;
 
 /**
  * Base class for all JPA entities providing common fields and behavior.
+ * <p>
+ * IDs come from one pooled sequence shared by all entities. Hibernate reserves
+ * {@value #ID_ALLOCATION_SIZE} values per sequence call and knows the ID before the INSERT,
+ * so inserts (e.g. an order with its items) can be sent as JDBC batches.
  */
 @MappedSuperclass
 public abstract class AbstractEntity {
 
+    /**
+     * Name of the ID sequence. Rows inserted with explicit IDs (seed data) must restart it above
+     * their highest ID plus {@link #ID_ALLOCATION_SIZE}, since the pooled optimizer hands out the
+     * values below the one returned by the sequence.
+     */
+    public static final String ID_SEQUENCE = "entity_id_seq";
+
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
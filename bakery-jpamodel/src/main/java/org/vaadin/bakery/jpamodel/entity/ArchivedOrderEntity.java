@@ -0,0 +1,158 @@
+package org.vaadin.bakery.jpamodel.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Picked up and cancelled orders moved out of customer_order once they are old enough.
+ * Rows are copied as they were, keeping the order ID, and never change afterwards; they are written
+ * only by the archival statements, so the entity is read-only.
+ */
+@Entity
+@Table(name = "customer_order_archive", indexes = {
+        @Index(name = "ix_customer_order_archive_customer_id_due_date", columnList = "customer_id, due_date"),
+        @Index(name = "ix_customer_order_archive_due_date_due_time", columnList = "due_date, due_time")
+})
+public class ArchivedOrderEntity {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "version")
+    private Integer version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OrderStatusCode status;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(name = "due_time", nullable = false)
+    private LocalTime dueTime;
+
+    @Column(name = "additional_details", columnDefinition = "TEXT")
+    private String additionalDetails;
+
+    @Column(name = "total", nullable = false, precision = 10, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "discount", precision = 10, scale = 2)
+    private BigDecimal discount;
+
+    @Column(name = "paid", nullable = false)
+    private boolean paid;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id", nullable = false)
+    private CustomerEntity customer;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "location_id", nullable = false)
+    private LocationEntity location;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "created_by_id")
+    private Long createdById;
+
+    @Column(name = "updated_by_id")
+    private Long updatedById;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    @OneToMany(mappedBy = "order")
+    private List<ArchivedOrderItemEntity> items = new ArrayList<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public OrderStatusCode getStatus() {
+        return status;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public LocalTime getDueTime() {
+        return dueTime;
+    }
+
+    public String getAdditionalDetails() {
+        return additionalDetails;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public BigDecimal getDiscount() {
+        return discount;
+    }
+
+    public boolean isPaid() {
+        return paid;
+    }
+
+    public CustomerEntity getCustomer() {
+        return customer;
+    }
+
+    public LocationEntity getLocation() {
+        return location;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getCreatedById() {
+        return createdById;
+    }
+
+    public Long getUpdatedById() {
+        return updatedById;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+
+    public List<ArchivedOrderItemEntity> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,94 @@
+package org.vaadin.bakery.jpamodel.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.vaadin.bakery.jpamodel.code.OrderItemStatusCode;
+
+import java.math.BigDecimal;
+
+/**
+ * Line items of archived orders, copied from order_item together with their order.
+ */
+@Entity
+@Table(name = "order_item_archive", indexes = {
+        @Index(name = "ix_order_item_archive_order_id", columnList = "order_id"),
+        @Index(name = "ix_order_item_archive_product_id", columnList = "product_id")
+})
+public class ArchivedOrderItemEntity {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "version")
+    private Integer version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OrderItemStatusCode status;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Column(name = "details", columnDefinition = "TEXT")
+    private String details;
+
+    @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal unitPrice;
+
+    @Column(name = "line_total", nullable = false, precision = 10, scale = 2)
+    private BigDecimal lineTotal;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private ArchivedOrderEntity order;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private ProductEntity product;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public OrderItemStatusCode getStatus() {
+        return status;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public BigDecimal getLineTotal() {
+        return lineTotal;
+    }
+
+    public ArchivedOrderEntity getOrder() {
+        return order;
+    }
+
+    public ProductEntity getProduct() {
+        return product;
+    }
+}
@@ -1,22 +1,32 @@
 package org.vaadin.bakery.jpamodel.entity;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 
+import org.vaadin.bakery.common.util.PhoneNumberUtils;
 import org.vaadin.bakery.jpamodel.projection.CustomerSummaryProjection;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Customers who place orders at the bakery.
+ * Phone numbers are unique by their digits, so differently formatted entries of a number are one customer.
  */
 @Entity
-@Table(name = "customer")
+@Table(name = "customer",
+        uniqueConstraints = @UniqueConstraint(name = "uk_customer_phone_digits", columnNames = "phone_digits"))
 public class CustomerEntity extends AbstractAuditableEntity implements CustomerSummaryProjection {
 
     @NotBlank
@@ -27,6 +37,22 @@ public class CustomerEntity extends AbstractAuditableEntity implements CustomerS
     @Column(name = "phone_number", nullable = false)
     private String phoneNumber;
 
+    /**
+     * Digits of the phone number, kept in sync by {@link #setPhoneNumber(String)}.
+     */
+    @Column(name = "phone_digits", nullable = false)
+    private String phoneDigits;
+
+    /**
+     * All suffixes of the phone digits; a prefix match on the indexed suffix finds any digit substring.
+     */
+    @ElementCollection
+    @CollectionTable(name = "customer_phone_suffix",
+            joinColumns = @JoinColumn(name = "customer_id"),
+            indexes = @Index(name = "ix_customer_phone_suffix_suffix", columnList = "suffix"))
+    @Column(name = "suffix", nullable = false)
+    private Set<String> phoneSuffixes = new HashSet<>();
+
     @Column(name = "email")
     private String email;
 
@@ -50,6 +76,16 @@ public class CustomerEntity extends AbstractAuditableEntity implements CustomerS
 
     public void setPhoneNumber(String phoneNumber) {
         this.phoneNumber = phoneNumber;
+        var digits = PhoneNumberUtils.digitsOf(phoneNumber);
+        if (!digits.equals(phoneDigits)) {
+            phoneDigits = digits;
+            phoneSuffixes.clear();
+            phoneSuffixes.addAll(PhoneNumberUtils.suffixesOf(digits));
+        }
+    }
+
+    public String getPhoneDigits() {
+        return phoneDigits;
     }
 
     public String getEmail() {
@@ -6,14 +6,12 @@ import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
-import org.vaadin.bakery.jpamodel.projection.LocationSummaryProjection;
-
 /**
  * Pickup locations for orders.
  */
 @Entity
 @Table(name = "location")
-public class LocationEntity extends AbstractAuditableEntity implements LocationSummaryProjection {
+public class LocationEntity extends AbstractAuditableEntity {
 
     @NotBlank
     @Column(name = "name", nullable = false, unique = true)
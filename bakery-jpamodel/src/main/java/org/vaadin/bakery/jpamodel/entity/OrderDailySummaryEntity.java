@@ -0,0 +1,89 @@
+package org.vaadin.bakery.jpamodel.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated order counts and revenue per location, due date and status.
+ * Maintained incrementally by the order service so dashboard KPIs do not scan customer_order.
+ */
+@Entity
+@Table(name = "order_daily_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_daily_summary_location_date_status",
+                columnNames = {"location_id", "summary_date", "status"}))
+public class OrderDailySummaryEntity extends AbstractEntity {
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "location_id", nullable = false)
+    private LocationEntity location;
+
+    @NotNull
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OrderStatusCode status;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @NotNull
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    public LocationEntity getLocation() {
+        return location;
+    }
+
+    public void setLocation(LocationEntity location) {
+        this.location = location;
+    }
+
+    public LocalDate getSummaryDate() {
+        return summaryDate;
+    }
+
+    public void setSummaryDate(LocalDate summaryDate) {
+        this.summaryDate = summaryDate;
+    }
+
+    public OrderStatusCode getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatusCode status) {
+        this.status = status;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+}
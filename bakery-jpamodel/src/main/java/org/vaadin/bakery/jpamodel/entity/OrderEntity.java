@@ -6,7 +6,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -22,11 +26,45 @@ import java.util.List;
 
 /**
  * Customer orders for bakery products.
+ * <p>
+ * The named entity graphs are the fetch plans of the mapped shapes: each loads in one statement
+ * everything its mapping reads, whatever the number of items.
  */
 @Entity
-@Table(name = "customer_order")
+@NamedEntityGraph(name = OrderEntity.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("customer"),
+                @NamedAttributeNode("location"),
+                @NamedAttributeNode("createdBy"),
+                @NamedAttributeNode("updatedBy"),
+                @NamedAttributeNode(value = "items", subgraph = "items")
+        },
+        subgraphs = @NamedSubgraph(name = "items", attributeNodes = @NamedAttributeNode("product")))
+@NamedEntityGraph(name = OrderEntity.LIST_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("customer"),
+                @NamedAttributeNode("location"),
+                @NamedAttributeNode(value = "items", subgraph = "items")
+        },
+        subgraphs = @NamedSubgraph(name = "items", attributeNodes = @NamedAttributeNode("product")))
+@Table(name = "customer_order", indexes = {
+        @Index(name = "ix_customer_order_due_date_due_time", columnList = "due_date, due_time"),
+        @Index(name = "ix_customer_order_status_due_date", columnList = "status, due_date"),
+        @Index(name = "ix_customer_order_customer_id_status", columnList = "customer_id, status"),
+        @Index(name = "ix_customer_order_location_id_due_date", columnList = "location_id, due_date")
+})
 public class OrderEntity extends AbstractAuditableEntity {
 
+    /**
+     * Order detail: customer, location, creating and updating users, and items with their products.
+     */
+    public static final String DETAIL_GRAPH = "OrderEntity.detail";
+
+    /**
+     * Storefront list and dashboard upcoming orders: customer, location, and items with their products.
+     */
+    public static final String LIST_GRAPH = "OrderEntity.list";
+
     @NotNull
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,10 @@ import java.math.BigDecimal;
  * Individual line items within an order.
  */
 @Entity
-@Table(name = "order_item")
+@Table(name = "order_item", indexes = {
+        @Index(name = "ix_order_item_order_id", columnList = "order_id"),
+        @Index(name = "ix_order_item_product_id", columnList = "product_id")
+})
 public class OrderItemEntity extends AbstractEntity {
 
     @NotNull
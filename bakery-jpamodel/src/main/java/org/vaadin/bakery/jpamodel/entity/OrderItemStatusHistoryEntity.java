@@ -1,10 +1,12 @@
 package org.vaadin.bakery.jpamodel.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -16,6 +18,7 @@ import java.time.Instant;
 
 /**
  * Tracks order item status changes for audit history.
+ * The item reference has no foreign key so that the history stays when the order moves to the archive.
  */
 @Entity
 @Table(name = "order_item_status_history")
@@ -23,7 +26,8 @@ public class OrderItemStatusHistoryEntity extends AbstractEntity {
 
     @NotNull
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_item_id", nullable = false)
+    @JoinColumn(name = "order_item_id", nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private OrderItemEntity orderItem;
 
     @NotNull
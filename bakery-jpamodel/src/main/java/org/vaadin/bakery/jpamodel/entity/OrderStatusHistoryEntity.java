@@ -1,10 +1,13 @@
 package org.vaadin.bakery.jpamodel.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -16,27 +19,33 @@ import java.time.Instant;
 
 /**
  * Tracks order status changes for audit history.
+ * Rows are append-only: each one records the status entered, by whom and when. The order reference
+ * has no foreign key so that the history stays when the order moves to the archive.
  */
 @Entity
-@Table(name = "order_status_history")
+@Table(name = "order_status_history", indexes = {
+        @Index(name = "ix_order_status_history_order_id_status", columnList = "order_id, status"),
+        @Index(name = "ix_order_status_history_status_changed_at", columnList = "status, changed_at")
+})
 public class OrderStatusHistoryEntity extends AbstractEntity {
 
     @NotNull
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_id", nullable = false)
+    @JoinColumn(name = "order_id", nullable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private OrderEntity order;
 
     @NotNull
     @Enumerated(EnumType.STRING)
-    @Column(name = "status", nullable = false)
+    @Column(name = "status", nullable = false, updatable = false)
     private OrderStatusCode status;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "changed_by_id")
+    @JoinColumn(name = "changed_by_id", updatable = false)
     private UserEntity changedBy;
 
     @NotNull
-    @Column(name = "changed_at", nullable = false)
+    @Column(name = "changed_at", nullable = false, updatable = false)
     private Instant changedAt;
 
     public OrderEntity getOrder() {
@@ -8,9 +8,6 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
-import org.vaadin.bakery.jpamodel.projection.ProductSelectProjection;
-import org.vaadin.bakery.jpamodel.projection.ProductSummaryProjection;
-
 import java.math.BigDecimal;
 
 /**
@@ -18,7 +15,7 @@ import java.math.BigDecimal;
  */
 @Entity
 @Table(name = "product")
-public class ProductEntity extends AbstractAuditableEntity implements ProductSummaryProjection, ProductSelectProjection {
+public class ProductEntity extends AbstractAuditableEntity {
 
     @NotBlank
     @Column(name = "name", nullable = false, unique = true)
@@ -0,0 +1,85 @@
+package org.vaadin.bakery.jpamodel.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated quantities to produce per location, due date, pickup hour and product.
+ * Maintained incrementally by the order service so the production plan does not scan order_item.
+ */
+@Entity
+@Table(name = "production_plan",
+        uniqueConstraints = @UniqueConstraint(name = "uk_production_plan_location_date_hour_product",
+                columnNames = {"location_id", "plan_date", "pickup_hour", "product_id"}),
+        indexes = @Index(name = "ix_production_plan_plan_date", columnList = "plan_date"))
+public class ProductionPlanEntity extends AbstractEntity {
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "location_id", nullable = false)
+    private LocationEntity location;
+
+    @NotNull
+    @Column(name = "plan_date", nullable = false)
+    private LocalDate planDate;
+
+    @Column(name = "pickup_hour", nullable = false)
+    private int pickupHour;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private ProductEntity product;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    public LocationEntity getLocation() {
+        return location;
+    }
+
+    public void setLocation(LocationEntity location) {
+        this.location = location;
+    }
+
+    public LocalDate getPlanDate() {
+        return planDate;
+    }
+
+    public void setPlanDate(LocalDate planDate) {
+        this.planDate = planDate;
+    }
+
+    public int getPickupHour() {
+        return pickupHour;
+    }
+
+    public void setPickupHour(int pickupHour) {
+        this.pickupHour = pickupHour;
+    }
+
+    public ProductEntity getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductEntity product) {
+        this.product = product;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(long quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -14,14 +14,13 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
 import org.vaadin.bakery.jpamodel.code.UserRoleCode;
-import org.vaadin.bakery.jpamodel.projection.UserSummaryProjection;
 
 /**
  * Staff members who can log into the system.
  */
 @Entity
 @Table(name = "app_user")
-public class UserEntity extends AbstractAuditableEntity implements UserSummaryProjection {
+public class UserEntity extends AbstractAuditableEntity {
 
     @NotBlank
     @Email
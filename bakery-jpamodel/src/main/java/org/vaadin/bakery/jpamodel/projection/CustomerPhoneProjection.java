@@ -0,0 +1,11 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+/**
+ * Projection for resolving customers by phone digits during order import.
+ */
+public interface CustomerPhoneProjection {
+
+    Long getId();
+
+    String getPhoneDigits();
+}
@@ -0,0 +1,25 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+import java.time.Instant;
+import java.time.LocalTime;
+
+/**
+ * Projection for the headline dashboard KPIs, computed in one statement.
+ * Times are null when there is no matching order.
+ */
+public interface HeadlineKpiProjection {
+
+    Long getRemainingTodayCount();
+
+    LocalTime getNextPickupTime();
+
+    Long getNewOrdersCount();
+
+    Instant getLastNewOrderTime();
+
+    Long getTomorrowCount();
+
+    LocalTime getFirstPickupTimeTomorrow();
+
+    Long getUnavailableProductsCount();
+}
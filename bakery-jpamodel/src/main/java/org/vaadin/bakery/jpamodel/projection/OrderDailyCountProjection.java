@@ -0,0 +1,13 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Projection for dashboard day-by-day order count series.
+ */
+public interface OrderDailyCountProjection {
+
+    LocalDate getDueDate();
+
+    long getOrderCount();
+}
@@ -0,0 +1,22 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projection for rebuilding the daily order summary rollup from customer_order.
+ */
+public interface OrderDailySummaryProjection {
+
+    Long getLocationId();
+
+    LocalDate getDueDate();
+
+    OrderStatusCode getStatus();
+
+    long getOrderCount();
+
+    BigDecimal getTotalAmount();
+}
@@ -0,0 +1,43 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Projection for the order export: one order line with its order's fields.
+ */
+public interface OrderExportProjection {
+
+    Long getOrderId();
+
+    OrderStatusCode getStatus();
+
+    LocalDate getDueDate();
+
+    LocalTime getDueTime();
+
+    String getLocationName();
+
+    String getCustomerName();
+
+    String getCustomerPhone();
+
+    boolean isPaid();
+
+    BigDecimal getOrderTotal();
+
+    String getProductName();
+
+    String getProductSize();
+
+    Integer getQuantity();
+
+    BigDecimal getUnitPrice();
+
+    BigDecimal getLineTotal();
+
+    String getDetails();
+}
@@ -9,6 +9,8 @@ public interface OrderItemSummaryProjection {
 
     Long getId();
 
+    Long getOrderId();
+
     Integer getQuantity();
 
     String getDetails();
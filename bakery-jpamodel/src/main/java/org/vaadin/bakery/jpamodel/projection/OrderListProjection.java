@@ -3,13 +3,12 @@ package org.vaadin.bakery.jpamodel.projection;
 import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.List;
 
 /**
- * Projection for storefront order list display (with items).
+ * Projection for storefront order list display (items are loaded separately by order ID).
  */
 public interface OrderListProjection {
 
@@ -25,11 +24,13 @@ public interface OrderListProjection {
 
     boolean isPaid();
 
-    LocalDateTime getCreatedAt();
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
+
+    Integer getVersion();
 
     String getCustomerName();
 
     String getLocationName();
-
-    List<OrderItemSummaryProjection> getItems();
 }
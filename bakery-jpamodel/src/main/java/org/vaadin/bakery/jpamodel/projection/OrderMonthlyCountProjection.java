@@ -0,0 +1,13 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+/**
+ * Projection for dashboard month-by-month order count series.
+ */
+public interface OrderMonthlyCountProjection {
+
+    int getDueYear();
+
+    int getDueMonth();
+
+    long getOrderCount();
+}
@@ -0,0 +1,13 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+/**
+ * Projection for the total quantity of a product in an order.
+ */
+public interface OrderProductQuantityProjection {
+
+    Long getOrderId();
+
+    Long getProductId();
+
+    Long getQuantity();
+}
@@ -0,0 +1,28 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Projection for bulk status changes: what is needed to check an order's version and status and to
+ * move its rollup contributions, without loading the entity.
+ */
+public interface OrderStatusStateProjection {
+
+    Long getId();
+
+    Integer getVersion();
+
+    OrderStatusCode getStatus();
+
+    Long getLocationId();
+
+    LocalDate getDueDate();
+
+    LocalTime getDueTime();
+
+    BigDecimal getTotal();
+}
@@ -0,0 +1,11 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+/**
+ * Projection for photo metadata, used to answer conditional image requests without reading the BLOB.
+ */
+public interface PhotoMetadataProjection {
+
+    String getPhotoContentType();
+
+    Integer getVersion();
+}
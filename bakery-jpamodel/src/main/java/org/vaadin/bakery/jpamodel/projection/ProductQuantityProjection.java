@@ -0,0 +1,11 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+/**
+ * Projection for a total quantity per product.
+ */
+public interface ProductQuantityProjection {
+
+    String getProductName();
+
+    Long getQuantity();
+}
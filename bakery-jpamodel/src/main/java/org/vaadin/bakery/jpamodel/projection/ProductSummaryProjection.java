@@ -19,7 +19,10 @@ public interface ProductSummaryProjection {
 
     boolean isAvailable();
 
-    byte[] getPhoto();
-
+    /**
+     * Content type of the photo, null if there is none. The photo BLOB is not part of the projection.
+     */
     String getPhotoContentType();
+
+    Integer getVersion();
 }
@@ -0,0 +1,17 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+/**
+ * Projection for one line of the production plan of a day.
+ */
+public interface ProductionPlanLineProjection {
+
+    Integer getPickupHour();
+
+    String getLocationName();
+
+    String getProductName();
+
+    String getProductSize();
+
+    Long getQuantity();
+}
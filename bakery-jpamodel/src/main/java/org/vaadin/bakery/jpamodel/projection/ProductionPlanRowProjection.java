@@ -0,0 +1,20 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Projection for rebuilding the production plan: item quantities grouped by location, due date,
+ * pickup hour and product.
+ */
+public interface ProductionPlanRowProjection {
+
+    Long getLocationId();
+
+    LocalDate getDueDate();
+
+    Integer getPickupHour();
+
+    Long getProductId();
+
+    Long getQuantity();
+}
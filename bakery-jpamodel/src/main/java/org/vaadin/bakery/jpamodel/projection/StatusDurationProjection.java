@@ -0,0 +1,17 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+/**
+ * Projection for time-in-status analytics: how long orders took between two statuses, per location and product.
+ */
+public interface StatusDurationProjection {
+
+    String getLocationName();
+
+    String getProductName();
+
+    Long getOrderCount();
+
+    Double getMedianMinutes();
+
+    Double getP90Minutes();
+}
@@ -0,0 +1,15 @@
+package org.vaadin.bakery.jpamodel.projection;
+
+import org.vaadin.bakery.jpamodel.code.UserRoleCode;
+
+/**
+ * Projection for authentication: credentials and role only.
+ */
+public interface UserCredentialsProjection {
+
+    String getEmail();
+
+    String getPasswordHash();
+
+    UserRoleCode getRole();
+}
@@ -17,9 +17,12 @@ public interface UserSummaryProjection {
 
     UserRoleCode getRole();
 
-    byte[] getPhoto();
-
+    /**
+     * Content type of the photo, null if there is none. The photo BLOB is not part of the projection.
+     */
     String getPhotoContentType();
 
+    Integer getVersion();
+
     Long getPrimaryLocationId();
 }
@@ -1,13 +1,23 @@
 package org.vaadin.bakery.jpaservice;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.vaadin.bakery.common.util.PhoneNumberUtils;
 import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+import org.vaadin.bakery.jpamodel.entity.OrderEntity;
 import org.vaadin.bakery.jpaclient.repository.CustomerRepository;
 import org.vaadin.bakery.jpaclient.repository.OrderRepository;
+import org.vaadin.bakery.jpaservice.JpaOrderSummaryService.Contribution;
+import org.vaadin.bakery.jpaservice.JpaProductionPlanService.PlanContribution;
+import org.vaadin.bakery.jpaservice.OrderStatusHistoryWriter.Transition;
 import org.vaadin.bakery.jpaservice.mapper.CustomerMapper;
+import org.vaadin.bakery.service.CurrentUserService;
 import org.vaadin.bakery.service.CustomerService;
+import org.vaadin.bakery.service.OrderEventService.ChangeType;
+import org.vaadin.bakery.service.OrderEventService.OrderChange;
 import org.vaadin.bakery.uimodel.data.CustomerSummary;
+import org.vaadin.bakery.uimodel.data.UserDetail;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,15 +42,32 @@ public class JpaCustomerService implements CustomerService {
             OrderStatusCode.NOT_OK
     );
 
+    private static final int DEFAULT_PHONE_SEARCH_LIMIT = 20;
+
+    /**
+     * Shorter inputs match a large share of all suffixes, so grouping and ranking them would scan most customers.
+     */
+    private static final int MIN_PHONE_SEARCH_DIGITS = 3;
+
     private final CustomerRepository customerRepository;
     private final OrderRepository orderRepository;
     private final CustomerMapper customerMapper;
+    private final JpaOrderSummaryService orderSummaryService;
+    private final JpaProductionPlanService productionPlanService;
+    private final CurrentUserService currentUserService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public JpaCustomerService(CustomerRepository customerRepository, OrderRepository orderRepository,
-                              CustomerMapper customerMapper) {
+                              CustomerMapper customerMapper, JpaOrderSummaryService orderSummaryService,
+                              JpaProductionPlanService productionPlanService,
+                              CurrentUserService currentUserService, ApplicationEventPublisher eventPublisher) {
         this.customerRepository = customerRepository;
         this.orderRepository = orderRepository;
         this.customerMapper = customerMapper;
+        this.orderSummaryService = orderSummaryService;
+        this.productionPlanService = productionPlanService;
+        this.currentUserService = currentUserService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -56,24 +83,19 @@ public class JpaCustomerService implements CustomerService {
     @Override
     @Transactional(readOnly = true)
     public List<CustomerSummary> searchByPhone(String phoneDigits) {
-        if (phoneDigits == null || phoneDigits.isBlank()) {
-            return List.of();
-        }
+        return searchByPhone(phoneDigits, 0, DEFAULT_PHONE_SEARCH_LIMIT);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerSummary> searchByPhone(String phoneDigits, int offset, int limit) {
         // Extract digits only from search term
-        var searchDigits = phoneDigits.replaceAll("\\D", "");
-        if (searchDigits.isEmpty()) {
+        var searchDigits = PhoneNumberUtils.digitsOf(phoneDigits);
+        if (searchDigits.length() < MIN_PHONE_SEARCH_DIGITS || limit <= 0) {
             return List.of();
         }
-        // Find customers whose phone number digits contain the search digits
-        return customerRepository.findByActiveTrueOrderByPhoneNumber().stream()
-                .filter(customer -> {
-                    var customerDigits = customer.getPhoneNumber() != null
-                            ? customer.getPhoneNumber().replaceAll("\\D", "")
-                            : "";
-                    return customerDigits.contains(searchDigits);
-                })
-                .map(customerMapper::toSummary)
-                .toList();
+        var projections = customerRepository.findByPhoneSuffixLike(searchDigits + "%", offset, limit);
+        return customerMapper.toSummaryList(projections);
     }
 
     @Override
@@ -107,8 +129,17 @@ public class JpaCustomerService implements CustomerService {
 
         // Cancel pre-production orders
         var preProductionOrders = orderRepository.findByCustomerIdAndStatusIn(id, PRE_PRODUCTION_STATUSES);
+        var userId = currentUserService.getCurrentUser().map(UserDetail::getId).orElse(null);
         for (var order : preProductionOrders) {
+            var before = Contribution.of(order);
+            productionPlanService.subtract(PlanContribution.of(order));
             order.setStatus(OrderStatusCode.CANCELLED);
+            orderSummaryService.replace(before, Contribution.of(order));
+            eventPublisher.publishEvent(Transition.of(order, userId));
+        }
+        if (!preProductionOrders.isEmpty()) {
+            eventPublisher.publishEvent(new OrderChange(
+                    preProductionOrders.stream().map(OrderEntity::getId).toList(), ChangeType.UPDATED));
         }
 
         // Soft delete customer
@@ -133,12 +164,12 @@ public class JpaCustomerService implements CustomerService {
     @Override
     @Transactional(readOnly = true)
     public boolean phoneNumberExists(String phoneNumber) {
-        return customerRepository.existsByPhoneNumber(phoneNumber);
+        return customerRepository.existsByPhoneDigits(PhoneNumberUtils.digitsOf(phoneNumber));
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean phoneNumberExistsForOtherCustomer(String phoneNumber, Long customerId) {
-        return customerRepository.existsByPhoneNumberAndIdNot(phoneNumber, customerId);
+        return customerRepository.existsByPhoneDigitsAndIdNot(PhoneNumberUtils.digitsOf(phoneNumber), customerId);
     }
 }
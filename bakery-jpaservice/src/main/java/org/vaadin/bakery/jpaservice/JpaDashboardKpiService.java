@@ -0,0 +1,122 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.vaadin.bakery.service.DashboardKpiService;
+import org.vaadin.bakery.service.DashboardService;
+import org.vaadin.bakery.service.Subscription;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of the dashboard KPI service that computes the snapshot on a single background thread.
+ * <p>
+ * Every {@code bakery.dashboard.kpi-refresh-seconds} (default 30) the KPIs are read through
+ * {@link DashboardService} in one read-only transaction, so all figures come from the same state, with
+ * the interval as query timeout. Nothing is computed while no dashboard is subscribed. A failed or timed
+ * out refresh is logged and the last good snapshot stays in place, so a slow database never blocks a view.
+ */
+@Service
+public class JpaDashboardKpiService implements DashboardKpiService, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JpaDashboardKpiService.class);
+
+    private static final int UPCOMING_ORDERS_LIMIT = 10;
+
+    private final DashboardService dashboardService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration refreshInterval;
+
+    private final List<Consumer<KpiSnapshot>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("dashboard-kpis").daemon().factory());
+
+    private volatile KpiSnapshot snapshot;
+
+    public JpaDashboardKpiService(DashboardService dashboardService, PlatformTransactionManager transactionManager,
+                                  @Value("${bakery.dashboard.kpi-refresh-seconds:30}") int refreshSeconds) {
+        this.dashboardService = dashboardService;
+        this.refreshInterval = Duration.ofSeconds(refreshSeconds);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout(refreshSeconds);
+
+        scheduler.scheduleWithFixedDelay(() -> {
+            if (!listeners.isEmpty()) {
+                refresh();
+            }
+        }, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public Optional<KpiSnapshot> getSnapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    @Override
+    public Subscription subscribe(Consumer<KpiSnapshot> listener) {
+        listeners.add(listener);
+        var current = snapshot;
+        if (current == null || current.computedAt().plus(refreshInterval).isBefore(Instant.now())) {
+            scheduler.execute(this::refresh);
+        }
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Computes a new snapshot and hands it to the listeners. Runs on the scheduler thread only.
+     */
+    private void refresh() {
+        KpiSnapshot computed;
+        try {
+            computed = transactionTemplate.execute(_ -> compute());
+        } catch (RuntimeException e) {
+            logger.warn("Dashboard KPI refresh failed, keeping the snapshot from {}",
+                    snapshot != null ? snapshot.computedAt() : "never", e);
+            return;
+        }
+
+        snapshot = computed;
+        for (var listener : listeners) {
+            try {
+                listener.accept(computed);
+            } catch (RuntimeException e) {
+                logger.warn("Dashboard KPI listener failed", e);
+            }
+        }
+    }
+
+    private KpiSnapshot compute() {
+        var headline = dashboardService.getHeadlineKpis();
+        return new KpiSnapshot(
+                Instant.now(),
+                headline.remainingTodayCount(),
+                headline.nextPickupTime(),
+                headline.newOrdersCount(),
+                headline.lastNewOrderTime(),
+                headline.tomorrowCount(),
+                headline.firstPickupTimeTomorrow(),
+                headline.unavailableProductsCount(),
+                dashboardService.getMonthTotal(),
+                dashboardService.getYearTotal(),
+                dashboardService.getUpcomingOrders(UPCOMING_ORDERS_LIMIT)
+        );
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -1,23 +1,27 @@
 package org.vaadin.bakery.jpaservice;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+import org.vaadin.bakery.jpaclient.repository.OrderDailySummaryRepository;
 import org.vaadin.bakery.jpaclient.repository.OrderRepository;
-import org.vaadin.bakery.jpaclient.repository.ProductRepository;
+import org.vaadin.bakery.jpaclient.repository.ProductionPlanRepository;
 import org.vaadin.bakery.jpaservice.mapper.OrderMapper;
 import org.vaadin.bakery.service.DashboardService;
 import org.vaadin.bakery.uimodel.data.OrderDashboard;
 
-import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * JPA implementation of the dashboard service.
@@ -32,123 +36,126 @@ public class JpaDashboardService implements DashboardService {
     );
 
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
+    private final OrderDailySummaryRepository summaryRepository;
+    private final ProductionPlanRepository planRepository;
     private final OrderMapper orderMapper;
 
-    public JpaDashboardService(OrderRepository orderRepository, ProductRepository productRepository,
-                               OrderMapper orderMapper) {
+    public JpaDashboardService(OrderRepository orderRepository, OrderDailySummaryRepository summaryRepository,
+                               ProductionPlanRepository planRepository, OrderMapper orderMapper) {
         this.orderRepository = orderRepository;
-        this.productRepository = productRepository;
+        this.summaryRepository = summaryRepository;
+        this.planRepository = planRepository;
         this.orderMapper = orderMapper;
     }
 
     @Override
-    public long getRemainingTodayCount() {
-        return orderRepository.countByDueDateAndStatusNotIn(LocalDate.now(), TERMINAL_STATUSES);
+    public HeadlineKpis getHeadlineKpis() {
+        var today = LocalDate.now();
+        var kpis = orderRepository.summarizeHeadlineKpis(today, today.plusDays(1), LocalTime.now(),
+                OrderStatusCode.NEW, TERMINAL_STATUSES);
+        var lastNewOrderTime = kpis.getLastNewOrderTime() != null
+                ? LocalDateTime.ofInstant(kpis.getLastNewOrderTime(), ZoneId.systemDefault())
+                : null;
+        return new HeadlineKpis(
+                kpis.getRemainingTodayCount(),
+                kpis.getNextPickupTime(),
+                kpis.getNewOrdersCount(),
+                lastNewOrderTime,
+                kpis.getTomorrowCount(),
+                kpis.getFirstPickupTimeTomorrow(),
+                kpis.getUnavailableProductsCount());
     }
 
     @Override
-    public Optional<LocalTime> getNextPickupTime() {
-        var projections = orderRepository.findNextPickupTimeByDate(LocalDate.now(), TERMINAL_STATUSES);
-        return projections.stream()
-                .filter(p -> p.getDueTime().isAfter(LocalTime.now()))
-                .map(p -> p.getDueTime())
-                .findFirst();
-    }
-
-    @Override
-    public long getNewOrdersCount() {
-        return orderRepository.countByStatus(OrderStatusCode.NEW);
-    }
-
-    @Override
-    public Optional<LocalDateTime> getLastNewOrderTime() {
-        var newOrders = orderRepository.findByStatus(OrderStatusCode.NEW);
-        return newOrders.stream()
-                .map(o -> o.getCreatedAt())
-                .max(Instant::compareTo)
-                .map(instant -> LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
-    }
-
-    @Override
-    public long getTomorrowCount() {
-        return orderRepository.countByDueDateAndStatusNotIn(LocalDate.now().plusDays(1), TERMINAL_STATUSES);
-    }
-
-    @Override
-    public Optional<LocalTime> getFirstPickupTimeTomorrow() {
-        var projections = orderRepository.findNextPickupTimeByDate(LocalDate.now().plusDays(1), TERMINAL_STATUSES);
-        return projections.stream()
-                .map(p -> p.getDueTime())
-                .findFirst();
+    public List<OrderDashboard> getUpcomingOrders(int limit) {
+        // Limit the IDs first, then fetch the details of just those orders
+        var ids = orderRepository.findDashboardIdsByDate(LocalDate.now(), TERMINAL_STATUSES, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return orderMapper.toDashboardList(orderRepository.findWithDetailsByIdIn(ids));
     }
 
     @Override
-    public long getUnavailableProductsCount() {
-        return productRepository.countByAvailableFalse();
+    public Map<Integer, Long> getMonthlyPickupData() {
+        var month = YearMonth.now();
+        var result = new HashMap<Integer, Long>();
+        getDailyPickupSeries(month.atDay(1), month.atEndOfMonth())
+                .forEach((date, count) -> result.put(date.getDayOfMonth(), count));
+        return result;
     }
 
     @Override
-    public List<OrderDashboard> getUpcomingOrders(int limit) {
-        var orders = orderRepository.findDashboardOrdersByDate(LocalDate.now(), TERMINAL_STATUSES);
-        return orderMapper.toDashboardList(orders).stream()
-                .limit(limit)
-                .toList();
+    public Map<Integer, Long> getYearlyPickupData() {
+        var year = Year.now();
+        var result = new HashMap<Integer, Long>();
+        getMonthlyPickupSeries(year.atMonth(Month.JANUARY), year.atMonth(Month.DECEMBER))
+                .forEach((month, count) -> result.put(month.getMonthValue(), count));
+        return result;
     }
 
     @Override
-    public Map<Integer, Long> getMonthlyPickupData() {
-        var now = LocalDate.now();
-        var result = new HashMap<Integer, Long>();
+    public Map<LocalDate, Long> getDailyPickupSeries(LocalDate startDate, LocalDate endDate) {
+        var result = new LinkedHashMap<LocalDate, Long>();
+        if (endDate.isBefore(startDate)) {
+            return result;
+        }
 
-        for (int day = 1; day <= now.lengthOfMonth(); day++) {
-            var date = now.withDayOfMonth(day);
-            var count = orderRepository.countByDueDateBetweenAndStatus(date, date, OrderStatusCode.PICKED_UP);
-            result.put(day, count);
+        for (var date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            result.put(date, 0L);
         }
+        summaryRepository.sumDailyBySummaryDateBetweenAndStatus(startDate, endDate, OrderStatusCode.PICKED_UP)
+                .forEach(p -> result.put(p.getDueDate(), p.getOrderCount()));
 
         return result;
     }
 
     @Override
-    public Map<Integer, Long> getYearlyPickupData() {
-        var now = LocalDate.now();
-        var result = new HashMap<Integer, Long>();
+    public Map<YearMonth, Long> getMonthlyPickupSeries(YearMonth startMonth, YearMonth endMonth) {
+        var result = new LinkedHashMap<YearMonth, Long>();
+        if (endMonth.isBefore(startMonth)) {
+            return result;
+        }
 
-        for (int month = 1; month <= 12; month++) {
-            var count = orderRepository.countByYearAndMonthAndStatus(now.getYear(), month, OrderStatusCode.PICKED_UP);
-            result.put(month, count);
+        for (var month = startMonth; !month.isAfter(endMonth); month = month.plusMonths(1)) {
+            result.put(month, 0L);
         }
+        summaryRepository.sumMonthlyBySummaryDateBetweenAndStatus(
+                        startMonth.atDay(1), endMonth.atEndOfMonth(), OrderStatusCode.PICKED_UP)
+                .forEach(p -> result.put(YearMonth.of(p.getDueYear(), p.getDueMonth()), p.getOrderCount()));
 
         return result;
     }
 
     @Override
     public Map<String, Long> getProductBreakdown() {
-        // Simplified implementation - would need a custom query for production
-        return new HashMap<>();
+        var month = YearMonth.now();
+        var result = new LinkedHashMap<String, Long>();
+        planRepository.sumQuantityByProductAndPlanDateBetween(month.atDay(1), month.atEndOfMonth())
+                .forEach(p -> result.put(p.getProductName(), p.getQuantity()));
+        return result;
     }
 
     @Override
     public Map<Integer, Long> getYearOverYearSales() {
-        var now = LocalDate.now();
+        var currentYear = Year.now();
         var result = new HashMap<Integer, Long>();
 
-        for (int year = now.getYear() - 2; year <= now.getYear(); year++) {
-            var count = orderRepository.countByYearAndStatus(year, OrderStatusCode.PICKED_UP);
-            result.put(year, count);
+        for (var year = currentYear.minusYears(2); !year.isAfter(currentYear); year = year.plusYears(1)) {
+            result.put(year.getValue(), 0L);
         }
+        getMonthlyPickupSeries(currentYear.minusYears(2).atMonth(Month.JANUARY), currentYear.atMonth(Month.DECEMBER))
+                .forEach((month, count) -> result.merge(month.getYear(), count, Long::sum));
 
         return result;
     }
 
     @Override
     public KpiWithDelta getMonthTotal() {
-        var now = LocalDate.now();
-        var currentMonth = orderRepository.countByYearAndMonthAndStatus(now.getYear(), now.getMonthValue(), OrderStatusCode.PICKED_UP);
-        var previousMonth = orderRepository.countByYearAndMonthAndStatus(
-                now.minusMonths(1).getYear(), now.minusMonths(1).getMonthValue(), OrderStatusCode.PICKED_UP);
-        var sameMonthLastYear = orderRepository.countByYearAndMonthAndStatus(now.getYear() - 1, now.getMonthValue(), OrderStatusCode.PICKED_UP);
+        var now = YearMonth.now();
+        var currentMonth = countPickedUp(now.atDay(1), now.atEndOfMonth());
+        var previousMonth = countPickedUp(now.minusMonths(1).atDay(1), now.minusMonths(1).atEndOfMonth());
+        var sameMonthLastYear = countPickedUp(now.minusYears(1).atDay(1), now.minusYears(1).atEndOfMonth());
 
         var previousDelta = previousMonth > 0 ? ((double) (currentMonth - previousMonth) / previousMonth) * 100 : 0;
         var lastYearDelta = sameMonthLastYear > 0 ? ((double) (currentMonth - sameMonthLastYear) / sameMonthLastYear) * 100 : 0;
@@ -158,14 +165,18 @@ public class JpaDashboardService implements DashboardService {
 
     @Override
     public KpiWithDelta getYearTotal() {
-        var now = LocalDate.now();
-        var currentYear = orderRepository.countByYearAndStatus(now.getYear(), OrderStatusCode.PICKED_UP);
-        var previousYear = orderRepository.countByYearAndStatus(now.getYear() - 1, OrderStatusCode.PICKED_UP);
-        var twoYearsAgo = orderRepository.countByYearAndStatus(now.getYear() - 2, OrderStatusCode.PICKED_UP);
+        var now = Year.now();
+        var currentYear = countPickedUp(now.atDay(1), now.atMonth(Month.DECEMBER).atEndOfMonth());
+        var previousYear = countPickedUp(now.minusYears(1).atDay(1), now.minusYears(1).atMonth(Month.DECEMBER).atEndOfMonth());
+        var twoYearsAgo = countPickedUp(now.minusYears(2).atDay(1), now.minusYears(2).atMonth(Month.DECEMBER).atEndOfMonth());
 
         var previousDelta = previousYear > 0 ? ((double) (currentYear - previousYear) / previousYear) * 100 : 0;
         var twoYearsAgoDelta = twoYearsAgo > 0 ? ((double) (currentYear - twoYearsAgo) / twoYearsAgo) * 100 : 0;
 
         return new KpiWithDelta(currentYear, previousYear, twoYearsAgo, previousDelta, twoYearsAgoDelta);
     }
+
+    private long countPickedUp(LocalDate startDate, LocalDate endDate) {
+        return summaryRepository.sumOrderCountBySummaryDateBetweenAndStatus(startDate, endDate, OrderStatusCode.PICKED_UP);
+    }
 }
@@ -1,8 +1,13 @@
 package org.vaadin.bakery.jpaservice;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.vaadin.bakery.jpaclient.repository.LocationRepository;
+import org.vaadin.bakery.jpamodel.projection.LocationSummaryProjection;
+import org.vaadin.bakery.jpaservice.cache.SnapshotCache;
 import org.vaadin.bakery.jpaservice.mapper.LocationMapper;
 import org.vaadin.bakery.service.LocationService;
 import org.vaadin.bakery.uimodel.data.LocationSummary;
@@ -12,6 +17,7 @@ import java.util.Optional;
 
 /**
  * JPA implementation of the location service.
+ * Active locations are cached application-wide and reloaded after any location change.
  */
 @Service
 @Transactional
@@ -19,10 +25,13 @@ public class JpaLocationService implements LocationService {
 
     private final LocationRepository locationRepository;
     private final LocationMapper locationMapper;
+    private final SnapshotCache<List<LocationSummaryProjection>> activeLocations;
 
-    public JpaLocationService(LocationRepository locationRepository, LocationMapper locationMapper) {
+    public JpaLocationService(LocationRepository locationRepository, LocationMapper locationMapper,
+                              ObjectProvider<MeterRegistry> meterRegistryProvider) {
         this.locationRepository = locationRepository;
         this.locationMapper = locationMapper;
+        this.activeLocations = new SnapshotCache<>("locations.active", meterRegistryProvider);
     }
 
     @Override
@@ -32,9 +41,10 @@ public class JpaLocationService implements LocationService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<LocationSummary> listActive() {
-        return locationMapper.toSummaryListFromEntities(locationRepository.findByActiveTrueOrderBySortOrderAsc());
+        return locationMapper.toSummaryList(activeLocations.get(() ->
+                List.copyOf(locationRepository.findByActiveTrueOrderBySortOrderAsc(LocationSummaryProjection.class))));
     }
 
     @Override
@@ -45,6 +55,7 @@ public class JpaLocationService implements LocationService {
 
     @Override
     public LocationSummary create(LocationSummary location) {
+        activeLocations.invalidate();
         var entity = locationMapper.toNewEntity(location);
         var saved = locationRepository.save(entity);
         return locationMapper.toSummary(saved);
@@ -55,12 +66,14 @@ public class JpaLocationService implements LocationService {
         var entity = locationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Location not found: " + id));
         locationMapper.toEntity(location, entity);
+        activeLocations.invalidate();
         return locationMapper.toSummary(entity);
     }
 
     @Override
     public void delete(Long id) {
         locationRepository.deleteById(id);
+        activeLocations.invalidate();
     }
 
     @Override
@@ -0,0 +1,148 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.vaadin.bakery.jpaclient.repository.ArchivedOrderItemRepository;
+import org.vaadin.bakery.jpaclient.repository.ArchivedOrderRepository;
+import org.vaadin.bakery.jpaclient.repository.OrderItemRepository;
+import org.vaadin.bakery.jpaclient.repository.OrderRepository;
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+import org.vaadin.bakery.jpamodel.projection.OrderStatusStateProjection;
+import org.vaadin.bakery.service.OrderArchiveService;
+import org.vaadin.bakery.service.OrderEventService.ChangeType;
+import org.vaadin.bakery.service.OrderEventService.OrderChange;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the order archive service that moves orders with set-based statements on a single
+ * background thread.
+ * <p>
+ * Every {@code bakery.order-archive.interval-minutes} (default 60) the picked up and cancelled orders due more
+ * than {@code bakery.order-archive.min-age-days} days ago are moved, oldest first, {@value #CHUNK_SIZE} per
+ * transaction: the chunk is locked and checked again, copied with its items, then deleted from the live
+ * tables. Short transactions keep the locks and the undo log small while the storefront keeps writing.
+ * A minimum age of 0 (the default) disables the schedule.
+ * <p>
+ * The daily summary and production plan rollups are left alone, since the orders are moved, not removed.
+ */
+@Service
+public class JpaOrderArchiveService implements OrderArchiveService, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JpaOrderArchiveService.class);
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final List<OrderStatusCode> ARCHIVABLE_STATUSES = List.of(
+            OrderStatusCode.PICKED_UP,
+            OrderStatusCode.CANCELLED
+    );
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedOrderItemRepository archivedOrderItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int minAgeDays;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("order-archive").daemon().factory());
+
+    public JpaOrderArchiveService(OrderRepository orderRepository, OrderItemRepository orderItemRepository,
+                                  ArchivedOrderRepository archivedOrderRepository,
+                                  ArchivedOrderItemRepository archivedOrderItemRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${bakery.order-archive.min-age-days:0}") int minAgeDays,
+                                  @Value("${bakery.order-archive.interval-minutes:60}") int intervalMinutes) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.archivedOrderItemRepository = archivedOrderItemRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minAgeDays = minAgeDays;
+
+        if (minAgeDays > 0) {
+            scheduler.scheduleWithFixedDelay(this::archiveOldOrders, intervalMinutes, intervalMinutes,
+                    TimeUnit.MINUTES);
+        }
+    }
+
+    @Override
+    public long archiveBefore(LocalDate cutoff) {
+        var archived = 0L;
+        ChunkResult chunk;
+        do {
+            chunk = transactionTemplate.execute(_ -> archiveChunk(cutoff));
+            archived += chunk != null ? chunk.archived() : 0;
+        } while (chunk != null && chunk.candidates() > 0);
+        return archived;
+    }
+
+    /**
+     * Archives the orders due before the minimum age. Runs on the scheduler thread only.
+     */
+    private void archiveOldOrders() {
+        var cutoff = LocalDate.now().minusDays(minAgeDays);
+        try {
+            var archived = archiveBefore(cutoff);
+            if (archived > 0) {
+                logger.info("Archived {} orders due before {}", archived, cutoff);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Order archival failed, retrying in the next run", e);
+        }
+    }
+
+    /**
+     * Archives the next chunk of orders due before the cutoff. Candidates that changed since they were found
+     * no longer match the query, so the caller keeps going as long as any candidates were found, even when
+     * none of them could be archived.
+     */
+    private ChunkResult archiveChunk(LocalDate cutoff) {
+        var candidateIds = orderRepository.findArchivableIds(ARCHIVABLE_STATUSES, cutoff, Limit.of(CHUNK_SIZE));
+        if (candidateIds.isEmpty()) {
+            return new ChunkResult(0, 0);
+        }
+
+        // Lock the chunk and check again, so an order changed since it was found stays live
+        var ids = orderRepository.findStatusStatesForUpdateByIdIn(candidateIds).stream()
+                .filter(state -> ARCHIVABLE_STATUSES.contains(state.getStatus())
+                        && state.getDueDate().isBefore(cutoff))
+                .map(OrderStatusStateProjection::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return new ChunkResult(candidateIds.size(), 0);
+        }
+
+        // Orders before items, and items before orders on the way out, for the foreign keys
+        archivedOrderRepository.copyFromOrders(ids, Instant.now());
+        archivedOrderItemRepository.copyFromOrderItems(ids);
+        orderItemRepository.deleteByOrderIdIn(ids);
+        orderRepository.deleteByIdIn(ids);
+
+        eventPublisher.publishEvent(new OrderChange(ids, ChangeType.ARCHIVED));
+        return new ChunkResult(candidateIds.size(), ids.size());
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private record ChunkResult(int candidates, int archived) {
+    }
+}
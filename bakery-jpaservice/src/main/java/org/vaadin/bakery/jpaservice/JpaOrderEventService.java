@@ -0,0 +1,59 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.vaadin.bakery.service.OrderEventService;
+import org.vaadin.bakery.service.Subscription;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of the order event service on top of Spring application events.
+ * <p>
+ * {@link JpaOrderService} publishes an {@link OrderChange} inside its transaction; it is picked up
+ * here after commit, so listeners never see a change that was rolled back, and handed to the
+ * listeners on a single background thread, which keeps the changes in commit order and never
+ * delays the committing request.
+ */
+@Service
+public class JpaOrderEventService implements OrderEventService, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JpaOrderEventService.class);
+
+    private final List<Consumer<OrderChange>> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("order-events").daemon().factory());
+
+    @Override
+    public Subscription subscribe(Consumer<OrderChange> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Dispatches a committed order change. Changes made outside a transaction are dispatched right away.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChange(OrderChange change) {
+        dispatcher.execute(() -> {
+            for (var listener : listeners) {
+                try {
+                    listener.accept(change);
+                } catch (RuntimeException e) {
+                    logger.warn("Order change listener failed for orders {}", change.orderIds(), e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdown();
+    }
+}
@@ -0,0 +1,140 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.vaadin.bakery.common.util.CsvUtils;
+import org.vaadin.bakery.jpaclient.repository.ArchivedOrderRepository;
+import org.vaadin.bakery.jpaclient.repository.OrderRepository;
+import org.vaadin.bakery.jpamodel.projection.OrderExportProjection;
+import org.vaadin.bakery.service.OrderExportService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+
+/**
+ * JPA implementation of the order export service.
+ * <p>
+ * The export reads one flat row per order line through a read-only, forward-only cursor with a JDBC
+ * fetch size of 500, and writes each row before the next is fetched. Rows are not attached to the
+ * persistence context, so neither memory use nor flush cost grows with the number of rows.
+ * <p>
+ * Live and archived orders are read through one cursor each, both in due order, and merged row by row.
+ */
+@Service
+@Transactional(readOnly = true)
+public class JpaOrderExportService implements OrderExportService {
+
+    private static final int PROGRESS_INTERVAL = 1_000;
+
+    private static final Comparator<OrderExportProjection> DUE_ORDER =
+            Comparator.comparing(OrderExportProjection::getDueDate)
+                    .thenComparing(OrderExportProjection::getDueTime)
+                    .thenComparing(OrderExportProjection::getOrderId);
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+
+    public JpaOrderExportService(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+    }
+
+    @Override
+    public long countLines(LocalDate startDate, LocalDate endDate) {
+        return orderRepository.countItemsByDueDateBetween(startDate, endDate)
+                + archivedOrderRepository.countItemsByDueDateBetween(startDate, endDate);
+    }
+
+    @Override
+    public long exportCsv(LocalDate startDate, LocalDate endDate, OutputStream out, ExportProgress progress) {
+        var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long lines = 0;
+        try (var liveRows = orderRepository.streamExportByDueDateBetween(startDate, endDate);
+             var archivedRows = archivedOrderRepository.streamExportByDueDateBetween(startDate, endDate)) {
+            writeLine(writer, CsvUtils.formatLine(COLUMNS));
+            for (var iterator = mergeInDueOrder(liveRows.iterator(), archivedRows.iterator()); iterator.hasNext(); ) {
+                writeLine(writer, CsvUtils.formatLine(toFields(iterator.next())));
+                lines++;
+                if (lines % PROGRESS_INTERVAL == 0 && !progress.onProgress(lines)) {
+                    throw new CancellationException("Export cancelled after " + lines + " lines");
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        progress.onProgress(lines);
+        return lines;
+    }
+
+    /**
+     * Merges two row iterators that are each in due order. An order is either live or archived, so its lines
+     * stay together.
+     */
+    private static Iterator<OrderExportProjection> mergeInDueOrder(Iterator<OrderExportProjection> first,
+                                                                   Iterator<OrderExportProjection> second) {
+        return new Iterator<>() {
+            private OrderExportProjection nextFirst = first.hasNext() ? first.next() : null;
+            private OrderExportProjection nextSecond = second.hasNext() ? second.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return nextFirst != null || nextSecond != null;
+            }
+
+            @Override
+            public OrderExportProjection next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                OrderExportProjection row;
+                if (nextSecond == null || (nextFirst != null && DUE_ORDER.compare(nextFirst, nextSecond) <= 0)) {
+                    row = nextFirst;
+                    nextFirst = first.hasNext() ? first.next() : null;
+                } else {
+                    row = nextSecond;
+                    nextSecond = second.hasNext() ? second.next() : null;
+                }
+                return row;
+            }
+        };
+    }
+
+    private static void writeLine(Writer writer, String line) throws IOException {
+        writer.write(line);
+        writer.write("\r\n");
+    }
+
+    private static List<String> toFields(OrderExportProjection row) {
+        return Arrays.asList(
+                String.valueOf(row.getOrderId()),
+                row.getStatus().name(),
+                row.getDueDate().toString(),
+                row.getDueTime().toString(),
+                row.getLocationName(),
+                row.getCustomerName(),
+                row.getCustomerPhone(),
+                String.valueOf(row.isPaid()),
+                Objects.toString(row.getOrderTotal(), null),
+                row.getProductName(),
+                row.getProductSize(),
+                String.valueOf(row.getQuantity()),
+                Objects.toString(row.getUnitPrice(), null),
+                Objects.toString(row.getLineTotal(), null),
+                row.getDetails()
+        );
+    }
+}
@@ -0,0 +1,435 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.vaadin.bakery.common.util.CsvUtils;
+import org.vaadin.bakery.common.util.PhoneNumberUtils;
+import org.vaadin.bakery.jpaclient.repository.CustomerRepository;
+import org.vaadin.bakery.jpaclient.repository.CustomerUpserts.NewCustomer;
+import org.vaadin.bakery.jpaclient.repository.LocationRepository;
+import org.vaadin.bakery.jpaclient.repository.OrderRepository;
+import org.vaadin.bakery.jpaclient.repository.ProductRepository;
+import org.vaadin.bakery.jpamodel.entity.OrderEntity;
+import org.vaadin.bakery.jpamodel.entity.OrderItemEntity;
+import org.vaadin.bakery.jpamodel.projection.CustomerPhoneProjection;
+import org.vaadin.bakery.jpamodel.projection.LocationSummaryProjection;
+import org.vaadin.bakery.jpamodel.projection.ProductSelectProjection;
+import org.vaadin.bakery.jpaservice.JpaOrderSummaryService.Contribution;
+import org.vaadin.bakery.jpaservice.JpaProductionPlanService.PlanContribution;
+import org.vaadin.bakery.jpaservice.OrderStatusHistoryWriter.Transition;
+import org.vaadin.bakery.service.CurrentUserService;
+import org.vaadin.bakery.service.OrderImportService;
+import org.vaadin.bakery.uimodel.data.UserDetail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JPA implementation of the order import service.
+ * <p>
+ * The input is read line by line in chunks of about {@value #CHUNK_LINES} lines, cut at order boundaries.
+ * Each chunk is validated in parallel against in-memory product and location lookups, then its valid
+ * orders are saved in one transaction: one query resolves the chunk's customers by phone digits, missing
+ * customers are created with a batched MERGE (a customer created concurrently with the same number is
+ * reused, not a conflict) and read back in a second query, the orders and items go out as JDBC batches,
+ * the summary rollup gets one update per location, date and status, and the production plan one per
+ * location, date, pickup hour and product. Only one chunk is held in memory at a time.
+ * <p>
+ * Each imported order publishes its initial status {@link Transition} for the status history. Imported orders
+ * do not publish order change events; open storefronts show them on their next refresh.
+ */
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class JpaOrderImportService implements OrderImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JpaOrderImportService.class);
+
+    private static final int CHUNK_LINES = 2_000;
+
+    private final CustomerRepository customerRepository;
+    private final ProductRepository productRepository;
+    private final LocationRepository locationRepository;
+    private final OrderRepository orderRepository;
+    private final JpaOrderSummaryService orderSummaryService;
+    private final JpaProductionPlanService productionPlanService;
+    private final CurrentUserService currentUserService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaOrderImportService(CustomerRepository customerRepository, ProductRepository productRepository,
+                                 LocationRepository locationRepository, OrderRepository orderRepository,
+                                 JpaOrderSummaryService orderSummaryService,
+                                 JpaProductionPlanService productionPlanService,
+                                 CurrentUserService currentUserService, ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager) {
+        this.customerRepository = customerRepository;
+        this.productRepository = productRepository;
+        this.locationRepository = locationRepository;
+        this.orderRepository = orderRepository;
+        this.orderSummaryService = orderSummaryService;
+        this.productionPlanService = productionPlanService;
+        this.currentUserService = currentUserService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ImportResult importCsv(InputStream csv) {
+        var reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        try {
+            var header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("The file is empty");
+            }
+            // Spreadsheet exports often start with a byte order mark
+            var columns = Columns.of(CsvUtils.parseLine(header.replace("\uFEFF", "")));
+            var lookups = loadLookups();
+            var progress = new Progress();
+            var startedAt = System.nanoTime();
+
+            var chunk = new ArrayList<CsvLine>(CHUNK_LINES);
+            var lineNumber = 1L;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                var csvLine = CsvLine.parse(lineNumber, line, columns);
+                if (chunk.size() >= CHUNK_LINES && !csvLine.orderRef().equals(chunk.getLast().orderRef())) {
+                    importChunk(chunk, lookups, progress);
+                    chunk.clear();
+                }
+                chunk.add(csvLine);
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, lookups, progress);
+            }
+
+            logger.info("Imported {} orders with {} lines in {} ms, rejected {} lines",
+                    progress.ordersImported, progress.linesImported,
+                    (System.nanoTime() - startedAt) / 1_000_000, progress.linesRejected);
+            return new ImportResult(progress.ordersImported, progress.linesImported, progress.linesRejected,
+                    progress.errors);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Lookups loadLookups() {
+        var products = new HashMap<String, ProductSelectProjection>();
+        var ambiguousProducts = new HashSet<String>();
+        for (var product : productRepository.findByAvailableTrueOrderByNameAsc(ProductSelectProjection.class)) {
+            var key = key(product.getName());
+            if (products.putIfAbsent(key, product) != null) {
+                ambiguousProducts.add(key);
+            }
+        }
+        var locations = locationRepository.findByActiveTrueOrderBySortOrderAsc(LocationSummaryProjection.class)
+                .stream()
+                .collect(Collectors.toMap(l -> key(l.getName()), LocationSummaryProjection::getId, (a, _) -> a));
+        return new Lookups(Map.copyOf(products), Set.copyOf(ambiguousProducts), Map.copyOf(locations));
+    }
+
+    private void importChunk(List<CsvLine> chunk, Lookups lookups, Progress progress) {
+        var lines = chunk.parallelStream()
+                .map(line -> validate(line, lookups))
+                .toList();
+
+        var orders = new ArrayList<ImportOrder>();
+        for (var line : lines) {
+            if (orders.isEmpty() || !orders.getLast().orderRef().equals(line.source().orderRef())) {
+                orders.add(new ImportOrder(line.source().orderRef(), new ArrayList<>()));
+            }
+            orders.getLast().lines().add(line);
+        }
+
+        var validOrders = new ArrayList<ImportOrder>();
+        for (var order : orders) {
+            checkSameOrderFields(order);
+            if (order.lines().stream().allMatch(line -> line.error() == null)) {
+                validOrders.add(order);
+            } else {
+                progress.linesRejected += order.lines().size();
+                order.lines().stream()
+                        .filter(line -> line.error() != null)
+                        .forEach(line -> progress.error(line.source().lineNumber(), line.error()));
+            }
+        }
+        if (validOrders.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(_ -> saveOrders(validOrders));
+            progress.ordersImported += validOrders.size();
+            progress.linesImported += validOrders.stream().mapToLong(order -> order.lines().size()).sum();
+        } catch (RuntimeException e) {
+            logger.warn("Saving imported orders failed from line {}", validOrders.getFirst().firstLineNumber(), e);
+            for (var order : validOrders) {
+                progress.linesRejected += order.lines().size();
+                progress.error(order.firstLineNumber(), "Order could not be saved: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Marks lines whose order fields differ from the order's first line.
+     */
+    private static void checkSameOrderFields(ImportOrder order) {
+        var first = order.lines().getFirst();
+        for (var i = 1; i < order.lines().size(); i++) {
+            var line = order.lines().get(i);
+            if (line.error() == null && first.error() == null && !line.sameOrderFields(first)) {
+                order.lines().set(i, line.withError("Due date, due time, location and customer must be the same "
+                        + "on all lines of order " + order.orderRef()));
+            }
+        }
+    }
+
+    private static ValidatedLine validate(CsvLine line, Lookups lookups) {
+        if (line.parseError() != null) {
+            return ValidatedLine.invalid(line, line.parseError());
+        }
+
+        var errors = new ArrayList<String>();
+        if (line.orderRef().isEmpty()) {
+            errors.add("order_ref is required");
+        }
+        var dueDate = parse(line.dueDate(), "due_date", LocalDate::parse, errors);
+        var dueTime = parse(line.dueTime(), "due_time", LocalTime::parse, errors);
+        var locationId = lookups.locations().get(key(line.location()));
+        if (locationId == null) {
+            errors.add("Unknown location: " + line.location());
+        }
+        var phoneDigits = PhoneNumberUtils.digitsOf(line.customerPhone());
+        if (phoneDigits.isEmpty()) {
+            errors.add("customer_phone is required");
+        }
+        if (line.customerName().isEmpty()) {
+            errors.add("customer_name is required");
+        }
+        var productKey = key(line.product());
+        var product = lookups.products().get(productKey);
+        if (product == null) {
+            errors.add("Unknown or unavailable product: " + line.product());
+        } else if (lookups.ambiguousProducts().contains(productKey)) {
+            errors.add("More than one product is named " + line.product());
+        }
+        var quantity = parse(line.quantity(), "quantity", Integer::valueOf, errors);
+        if (quantity != null && quantity <= 0) {
+            errors.add("quantity must be positive");
+        }
+
+        if (!errors.isEmpty()) {
+            return ValidatedLine.invalid(line, String.join("; ", errors));
+        }
+        var lineTotal = product.getPrice().multiply(BigDecimal.valueOf(quantity));
+        return new ValidatedLine(line, dueDate, dueTime, locationId, phoneDigits, product.getId(),
+                quantity, product.getPrice(), lineTotal, null);
+    }
+
+    private void saveOrders(List<ImportOrder> orders) {
+        var customersByPhone = findCustomerIds(orders.stream()
+                .map(order -> order.lines().getFirst().phoneDigits())
+                .collect(Collectors.toSet()));
+
+        // Create the missing customers, named after their first order, and read their IDs back
+        var newCustomers = new LinkedHashMap<String, NewCustomer>();
+        for (var order : orders) {
+            var first = order.lines().getFirst();
+            if (!customersByPhone.containsKey(first.phoneDigits())) {
+                newCustomers.putIfAbsent(first.phoneDigits(),
+                        new NewCustomer(first.source().customerName(), first.source().customerPhone()));
+            }
+        }
+        if (!newCustomers.isEmpty()) {
+            customerRepository.insertMissing(List.copyOf(newCustomers.values()));
+            customersByPhone.putAll(findCustomerIds(newCustomers.keySet()));
+        }
+
+        var entities = new ArrayList<OrderEntity>(orders.size());
+        for (var order : orders) {
+            var first = order.lines().getFirst();
+            var entity = new OrderEntity();
+            entity.setCustomer(customerRepository.getReferenceById(customersByPhone.get(first.phoneDigits())));
+            entity.setLocation(locationRepository.getReferenceById(first.locationId()));
+            entity.setDueDate(first.dueDate());
+            entity.setDueTime(first.dueTime());
+            entity.setPaid(false);
+            var total = BigDecimal.ZERO;
+            for (var line : order.lines()) {
+                var item = new OrderItemEntity();
+                item.setProduct(productRepository.getReferenceById(line.productId()));
+                item.setQuantity(line.quantity());
+                item.setUnitPrice(line.unitPrice());
+                item.setLineTotal(line.lineTotal());
+                item.setDetails(line.source().details().isEmpty() ? null : line.source().details());
+                entity.addItem(item);
+                total = total.add(line.lineTotal());
+            }
+            entity.setTotal(total);
+            entities.add(entity);
+        }
+
+        orderRepository.saveAll(entities);
+        orderSummaryService.addAll(entities.stream().map(Contribution::of).toList());
+        productionPlanService.addAll(entities.stream().map(PlanContribution::of).toList());
+
+        var userId = currentUserService.getCurrentUser().map(UserDetail::getId).orElse(null);
+        for (var entity : entities) {
+            eventPublisher.publishEvent(Transition.of(entity, userId));
+        }
+    }
+
+    private Map<String, Long> findCustomerIds(Set<String> phoneDigits) {
+        return customerRepository.findByPhoneDigitsIn(phoneDigits).stream()
+                .collect(Collectors.toMap(CustomerPhoneProjection::getPhoneDigits, CustomerPhoneProjection::getId,
+                        Long::min, HashMap::new));
+    }
+
+    private static <T> T parse(String value, String column, Parser<T> parser, List<String> errors) {
+        if (value.isEmpty()) {
+            errors.add(column + " is required");
+            return null;
+        }
+        try {
+            return parser.parse(value);
+        } catch (DateTimeParseException | NumberFormatException _) {
+            errors.add("Invalid " + column + ": " + value);
+            return null;
+        }
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @FunctionalInterface
+    private interface Parser<T> {
+
+        T parse(String value);
+    }
+
+    /**
+     * Column positions taken from the header.
+     */
+    private record Columns(Map<String, Integer> indexes) {
+
+        static Columns of(List<String> header) {
+            var indexes = new HashMap<String, Integer>();
+            for (var i = 0; i < header.size(); i++) {
+                indexes.putIfAbsent(key(header.get(i)), i);
+            }
+            var missing = COLUMNS.stream()
+                    .filter(column -> !column.equals("details") && !indexes.containsKey(column))
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("Missing columns: " + String.join(", ", missing));
+            }
+            return new Columns(indexes);
+        }
+
+        String get(List<String> fields, String column) {
+            var index = indexes.get(column);
+            return index != null && index < fields.size() ? fields.get(index).trim() : "";
+        }
+    }
+
+    /**
+     * One CSV line split into its fields, parsed on the reading thread.
+     */
+    private record CsvLine(long lineNumber, String orderRef, String dueDate, String dueTime, String location,
+                           String customerPhone, String customerName, String product, String quantity,
+                           String details, String parseError) {
+
+        static CsvLine parse(long lineNumber, String line, Columns columns) {
+            List<String> fields;
+            String parseError = null;
+            try {
+                fields = CsvUtils.parseLine(line);
+            } catch (IllegalArgumentException e) {
+                fields = List.of();
+                parseError = e.getMessage();
+            }
+            return new CsvLine(lineNumber, columns.get(fields, "order_ref"), columns.get(fields, "due_date"),
+                    columns.get(fields, "due_time"), columns.get(fields, "location"),
+                    columns.get(fields, "customer_phone"), columns.get(fields, "customer_name"),
+                    columns.get(fields, "product"), columns.get(fields, "quantity"),
+                    columns.get(fields, "details"), parseError);
+        }
+    }
+
+    /**
+     * A CSV line with its values resolved, or the reason it is invalid.
+     */
+    private record ValidatedLine(CsvLine source, LocalDate dueDate, LocalTime dueTime, Long locationId,
+                                 String phoneDigits, Long productId, Integer quantity, BigDecimal unitPrice,
+                                 BigDecimal lineTotal, String error) {
+
+        static ValidatedLine invalid(CsvLine source, String error) {
+            return new ValidatedLine(source, null, null, null, null, null, null, null, null, error);
+        }
+
+        ValidatedLine withError(String error) {
+            return invalid(source, error);
+        }
+
+        boolean sameOrderFields(ValidatedLine other) {
+            return dueDate.equals(other.dueDate) && dueTime.equals(other.dueTime)
+                    && locationId.equals(other.locationId) && Objects.equals(phoneDigits, other.phoneDigits);
+        }
+    }
+
+    private record ImportOrder(String orderRef, List<ValidatedLine> lines) {
+
+        long firstLineNumber() {
+            return lines.getFirst().source().lineNumber();
+        }
+    }
+
+    private record Lookups(Map<String, ProductSelectProjection> products, Set<String> ambiguousProducts,
+                           Map<String, Long> locations) {
+    }
+
+    /**
+     * Running totals of an import; errors beyond {@link ImportResult#MAX_REPORTED_ERRORS} are only counted.
+     */
+    private static class Progress {
+
+        private int ordersImported;
+        private long linesImported;
+        private long linesRejected;
+        private final List<LineError> errors = new ArrayList<>();
+
+        void error(long lineNumber, String message) {
+            if (errors.size() < ImportResult.MAX_REPORTED_ERRORS) {
+                errors.add(new LineError(lineNumber, message));
+            }
+        }
+    }
+}
@@ -1,28 +1,60 @@
 package org.vaadin.bakery.jpaservice;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.vaadin.bakery.common.util.PhoneNumberUtils;
 import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
 import org.vaadin.bakery.jpamodel.entity.CustomerEntity;
 import org.vaadin.bakery.jpamodel.entity.OrderEntity;
 import org.vaadin.bakery.jpamodel.entity.OrderItemEntity;
+import org.vaadin.bakery.jpamodel.entity.ProductEntity;
+import org.vaadin.bakery.jpamodel.projection.OrderItemSummaryProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderListProjection;
+import org.vaadin.bakery.jpamodel.projection.OrderStatusStateProjection;
+import org.vaadin.bakery.jpaclient.repository.ArchivedOrderItemRepository;
+import org.vaadin.bakery.jpaclient.repository.ArchivedOrderRepository;
 import org.vaadin.bakery.jpaclient.repository.CustomerRepository;
+import org.vaadin.bakery.jpaclient.repository.CustomerUpserts.NewCustomer;
 import org.vaadin.bakery.jpaclient.repository.LocationRepository;
+import org.vaadin.bakery.jpaclient.repository.OrderItemRepository;
 import org.vaadin.bakery.jpaclient.repository.OrderRepository;
 import org.vaadin.bakery.jpaclient.repository.ProductRepository;
+import org.vaadin.bakery.jpaservice.JpaOrderSummaryService.Contribution;
+import org.vaadin.bakery.jpaservice.JpaProductionPlanService.PlanContribution;
+import org.vaadin.bakery.jpaservice.OrderStatusHistoryWriter.Transition;
 import org.vaadin.bakery.jpaservice.mapper.EnumMapper;
+import org.vaadin.bakery.jpaservice.mapper.OrderItemMapper;
 import org.vaadin.bakery.jpaservice.mapper.OrderMapper;
+import org.vaadin.bakery.service.CurrentUserService;
+import org.vaadin.bakery.service.OrderEventService.ChangeType;
+import org.vaadin.bakery.service.OrderEventService.OrderChange;
 import org.vaadin.bakery.service.OrderService;
 import org.vaadin.bakery.uimodel.data.OrderDetail;
+import org.vaadin.bakery.uimodel.data.OrderItemDetail;
 import org.vaadin.bakery.uimodel.data.OrderList;
+import org.vaadin.bakery.uimodel.data.UserDetail;
 import org.vaadin.bakery.uimodel.type.OrderStatus;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * JPA implementation of the order service.
+ * Every change publishes an {@link OrderChange}, delivered to listeners after commit by {@link JpaOrderEventService},
+ * and every status change a {@link Transition}, appended to the status history by {@link OrderStatusHistoryWriter}.
  */
 @Service
 @Transactional
@@ -33,59 +65,129 @@ public class JpaOrderService implements OrderService {
             OrderStatusCode.CANCELLED
     );
 
+    private static final Comparator<OrderList> LATEST_DUE_FIRST = Comparator.comparing(OrderList::getDueDate)
+            .thenComparing(OrderList::getDueTime)
+            .reversed();
+
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedOrderItemRepository archivedOrderItemRepository;
     private final CustomerRepository customerRepository;
     private final LocationRepository locationRepository;
     private final ProductRepository productRepository;
     private final OrderMapper orderMapper;
+    private final OrderItemMapper orderItemMapper;
     private final EnumMapper enumMapper;
+    private final JpaOrderSummaryService orderSummaryService;
+    private final JpaProductionPlanService productionPlanService;
+    private final CurrentUserService currentUserService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public JpaOrderService(OrderRepository orderRepository, CustomerRepository customerRepository,
+    public JpaOrderService(OrderRepository orderRepository, OrderItemRepository orderItemRepository,
+                           ArchivedOrderRepository archivedOrderRepository,
+                           ArchivedOrderItemRepository archivedOrderItemRepository,
+                           CustomerRepository customerRepository,
                            LocationRepository locationRepository, ProductRepository productRepository,
-                           OrderMapper orderMapper, EnumMapper enumMapper) {
+                           OrderMapper orderMapper, OrderItemMapper orderItemMapper, EnumMapper enumMapper,
+                           JpaOrderSummaryService orderSummaryService, JpaProductionPlanService productionPlanService,
+                           CurrentUserService currentUserService, ApplicationEventPublisher eventPublisher) {
         this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.archivedOrderItemRepository = archivedOrderItemRepository;
         this.customerRepository = customerRepository;
         this.locationRepository = locationRepository;
         this.productRepository = productRepository;
         this.orderMapper = orderMapper;
+        this.orderItemMapper = orderItemMapper;
         this.enumMapper = enumMapper;
+        this.orderSummaryService = orderSummaryService;
+        this.productionPlanService = productionPlanService;
+        this.currentUserService = currentUserService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<OrderList> listUpcoming() {
-        var orders = orderRepository.findUpcomingOrdersWithDetails(LocalDate.now());
-        return orderMapper.toListList(orders);
+    public List<OrderList> listUpcoming(OrderCursor after, int pageSize) {
+        // The first page starts before the earliest possible order today
+        var cursor = after != null
+                ? after
+                : new OrderCursor(LocalDate.now(), LocalTime.MIN, 0L);
+
+        // Page the IDs first, then fetch the details of just that page
+        var ids = orderRepository.findUpcomingIdsAfter(cursor.dueDate(), cursor.dueTime(), cursor.id(),
+                Limit.of(pageSize));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return orderMapper.toListListFromEntities(orderRepository.findWithDetailsByIdIn(ids));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<OrderList> listByDateRange(LocalDate startDate, LocalDate endDate) {
-        var orders = orderRepository.findByDueDateBetweenOrderByDueDateAscDueTimeAsc(startDate, endDate);
-        return orderMapper.toListList(orders);
+        var orders = orderRepository.findListByDueDateBetween(startDate, endDate);
+        return toListWithItems(orders);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderList> listPage(OrderFilter filter, OrderCursor after, int pageSize) {
+        // The first page starts before the earliest possible order in the range
+        var cursor = after != null
+                ? after
+                : new OrderCursor(filter.startDate(), LocalTime.MIN, 0L);
+
+        var orders = orderRepository.findPageAfter(
+                filter.startDate(), filter.endDate(), statusCodes(filter), filter.locationId(),
+                customerNamePattern(filter), cursor.dueDate(), cursor.dueTime(), cursor.id(), Limit.of(pageSize));
+        return toListWithItems(orders);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderList> listMatching(Collection<Long> ids, OrderFilter filter) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var orders = orderRepository.findMatchingByIdIn(ids, filter.startDate(), filter.endDate(),
+                statusCodes(filter), filter.locationId(), customerNamePattern(filter));
+        return toListWithItems(orders);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<OrderList> listByStatus(OrderStatus status) {
         var statusCode = enumMapper.toOrderStatusCode(status);
-        var orders = orderRepository.findByStatus(statusCode);
-        return orderMapper.toListList(orders);
+        var orders = orderRepository.findListByStatus(statusCode);
+        return toListWithItems(orders);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<OrderList> listByCustomer(Long customerId) {
-        var orders = orderRepository.findByCustomerIdOrderByDueDateDescDueTimeDesc(customerId);
-        return orderMapper.toListList(orders);
+        var result = new ArrayList<>(toListWithItems(orderRepository.findListByCustomerId(customerId)));
+        result.addAll(toListWithItems(archivedOrderRepository.findListByCustomerId(customerId),
+                archivedOrderItemRepository::findProjectedByOrderIdIn));
+        // Orders left open for long can be due before archived ones, so the two lists are interleaved
+        result.sort(LATEST_DUE_FIRST);
+        return result;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<OrderDetail> get(Long id) {
-        return orderRepository.findById(id).map(orderMapper::toDetail);
+        return orderRepository.findDetailById(id).map(orderMapper::toDetail);
     }
 
+    /**
+     * Creates an order in one transaction on one connection. It reads the customer, the location and all
+     * products with one query each, whatever the number of items. A new phone number adds a customer MERGE
+     * and a second read of the customer. The daily summary and production plan rollups get one MERGE batch
+     * each, and the order and its items are inserted in JDBC batches when the transaction commits.
+     */
     @Override
     public OrderDetail create(OrderDetail order) {
         var entity = orderMapper.toNewEntity(order);
@@ -97,17 +199,19 @@ public class JpaOrderService implements OrderService {
             customer = customerRepository.findById(order.getCustomerId())
                     .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + order.getCustomerId()));
         } else if (order.getCustomerPhone() != null && !order.getCustomerPhone().isBlank()) {
-            // Try to find existing customer by phone, or create new one
-            var existingCustomer = customerRepository.findByPhoneNumber(order.getCustomerPhone());
+            var phoneDigits = PhoneNumberUtils.digitsOf(order.getCustomerPhone());
+            if (phoneDigits.isEmpty()) {
+                throw new IllegalArgumentException("Customer phone has no digits: " + order.getCustomerPhone());
+            }
+            var existingCustomer = customerRepository.findByPhoneDigits(phoneDigits);
             if (existingCustomer.isPresent()) {
                 customer = existingCustomer.get();
             } else {
-                var newCustomer = new CustomerEntity();
-                newCustomer.setName(order.getCustomerName());
-                newCustomer.setPhoneNumber(order.getCustomerPhone());
-                newCustomer.setActive(true);
-                customer = customerRepository.save(newCustomer);
-                newCustomerCreated = true;
+                // Atomic against a concurrent order for the same new number, which then shares the customer
+                newCustomerCreated = customerRepository.insertMissing(
+                        List.of(new NewCustomer(order.getCustomerName(), order.getCustomerPhone()))) > 0;
+                customer = customerRepository.findByPhoneDigits(phoneDigits)
+                        .orElseThrow(() -> new IllegalStateException("Customer not found after creation: " + phoneDigits));
             }
         } else {
             throw new IllegalArgumentException("Either customerId or customerPhone must be provided");
@@ -118,9 +222,16 @@ public class JpaOrderService implements OrderService {
                 .orElseThrow(() -> new IllegalArgumentException("Location not found: " + order.getLocationId()));
         entity.setLocation(location);
 
+        var productIds = order.getItems().stream()
+                .map(OrderItemDetail::getProductId)
+                .collect(Collectors.toSet());
+        var productsById = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
         for (var itemDetail : order.getItems()) {
-            var product = productRepository.findById(itemDetail.getProductId())
-                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + itemDetail.getProductId()));
+            var product = productsById.get(itemDetail.getProductId());
+            if (product == null) {
+                throw new IllegalArgumentException("Product not found: " + itemDetail.getProductId());
+            }
 
             var itemEntity = new OrderItemEntity();
             itemEntity.setQuantity(itemDetail.getQuantity());
@@ -132,6 +243,10 @@ public class JpaOrderService implements OrderService {
         }
 
         var saved = orderRepository.save(entity);
+        orderSummaryService.add(Contribution.of(saved));
+        productionPlanService.add(PlanContribution.of(saved));
+        publishTransition(saved);
+        eventPublisher.publishEvent(OrderChange.of(saved.getId(), ChangeType.CREATED));
         var result = orderMapper.toDetail(saved);
         result.setNewCustomerCreated(newCustomerCreated);
         return result;
@@ -139,8 +254,10 @@ public class JpaOrderService implements OrderService {
 
     @Override
     public OrderDetail update(Long id, OrderDetail order) {
-        var entity = orderRepository.findById(id)
+        var entity = orderRepository.findDetailById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + id));
+        var before = Contribution.of(entity);
+        var planBefore = PlanContribution.of(entity);
 
         orderMapper.toEntity(order, entity);
 
@@ -156,6 +273,12 @@ public class JpaOrderService implements OrderService {
             entity.setLocation(location);
         }
 
+        orderSummaryService.replace(before, Contribution.of(entity));
+        productionPlanService.replace(planBefore, PlanContribution.of(entity));
+        if (entity.getStatus() != before.status()) {
+            publishTransition(entity);
+        }
+        eventPublisher.publishEvent(OrderChange.of(id, ChangeType.UPDATED));
         return orderMapper.toDetail(entity);
     }
 
@@ -163,7 +286,68 @@ public class JpaOrderService implements OrderService {
     public void updateStatus(Long id, OrderStatus newStatus) {
         var entity = orderRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + id));
-        entity.setStatus(enumMapper.toOrderStatusCode(newStatus));
+        var before = Contribution.of(entity);
+        var statusCode = enumMapper.toOrderStatusCode(newStatus);
+        // Only cancelling or reinstating an order changes the plan, so the items are not loaded otherwise
+        var planBefore = PlanContribution.isPlanned(before.status()) != PlanContribution.isPlanned(statusCode)
+                ? PlanContribution.of(entity)
+                : null;
+        entity.setStatus(statusCode);
+        orderSummaryService.replace(before, Contribution.of(entity));
+        if (planBefore != null) {
+            productionPlanService.replace(planBefore, PlanContribution.of(entity));
+        }
+        if (entity.getStatus() != before.status()) {
+            publishTransition(entity);
+        }
+        eventPublisher.publishEvent(OrderChange.of(id, ChangeType.UPDATED));
+    }
+
+    @Override
+    public BulkStatusResult updateStatuses(Map<Long, Integer> expectedVersions, OrderStatus newStatus) {
+        if (expectedVersions.isEmpty()) {
+            return new BulkStatusResult(List.of(), List.of());
+        }
+        var statusCode = enumMapper.toOrderStatusCode(newStatus);
+
+        // Lock the orders, then check them without loading the entities
+        var states = orderRepository.findStatusStatesForUpdateByIdIn(expectedVersions.keySet()).stream()
+                .collect(Collectors.toMap(OrderStatusStateProjection::getId, Function.identity()));
+        var eligible = new ArrayList<OrderStatusStateProjection>();
+        var conflicts = new ArrayList<StatusConflict>();
+        expectedVersions.forEach((id, expectedVersion) -> {
+            var state = states.get(id);
+            if (state == null) {
+                conflicts.add(new StatusConflict(id, "Order not found"));
+            } else if (!state.getVersion().equals(expectedVersion)) {
+                conflicts.add(new StatusConflict(id, "Changed by someone else in the meantime"));
+            } else if (!enumMapper.toOrderStatus(state.getStatus()).canChangeTo(newStatus)) {
+                conflicts.add(new StatusConflict(id, "Cannot change from "
+                        + enumMapper.toOrderStatus(state.getStatus()).getDisplayName()
+                        + " to " + newStatus.getDisplayName()));
+            } else {
+                eligible.add(state);
+            }
+        });
+        if (eligible.isEmpty()) {
+            return new BulkStatusResult(List.of(), conflicts);
+        }
+
+        var ids = eligible.stream().map(OrderStatusStateProjection::getId).toList();
+        var changedAt = Instant.now();
+        orderRepository.updateStatusByIdIn(ids, statusCode, changedAt);
+
+        orderSummaryService.replaceAll(
+                eligible.stream().map(state -> contribution(state, state.getStatus())).toList(),
+                eligible.stream().map(state -> contribution(state, statusCode)).toList());
+        updatePlan(eligible, statusCode);
+
+        var userId = currentUserService.getCurrentUser().map(UserDetail::getId).orElse(null);
+        for (var id : ids) {
+            eventPublisher.publishEvent(new Transition(id, statusCode, userId, changedAt));
+        }
+        eventPublisher.publishEvent(new OrderChange(ids, ChangeType.UPDATED));
+        return new BulkStatusResult(ids, conflicts);
     }
 
     @Override
@@ -171,6 +355,7 @@ public class JpaOrderService implements OrderService {
         var entity = orderRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + id));
         entity.setPaid(true);
+        eventPublisher.publishEvent(OrderChange.of(id, ChangeType.UPDATED));
     }
 
     @Override
@@ -193,4 +378,95 @@ public class JpaOrderService implements OrderService {
                 .toList();
         return orderRepository.countByDueDateAndStatusNotIn(date, excludedCodes);
     }
+
+    private static Contribution contribution(OrderStatusStateProjection state, OrderStatusCode status) {
+        return new Contribution(state.getLocationId(), state.getDueDate(), status,
+                state.getTotal() != null ? state.getTotal() : BigDecimal.ZERO);
+    }
+
+    /**
+     * Moves the production plan quantities of the orders that a bulk status change cancels or reinstates,
+     * reading their item quantities with one grouped query.
+     */
+    private void updatePlan(List<OrderStatusStateProjection> states, OrderStatusCode newStatus) {
+        var affected = states.stream()
+                .filter(state -> PlanContribution.isPlanned(state.getStatus()) != PlanContribution.isPlanned(newStatus))
+                .toList();
+        if (affected.isEmpty()) {
+            return;
+        }
+
+        var quantitiesByOrderId = new HashMap<Long, Map<Long, Long>>();
+        orderItemRepository.sumQuantityByOrderIdIn(affected.stream().map(OrderStatusStateProjection::getId).toList())
+                .forEach(p -> quantitiesByOrderId.computeIfAbsent(p.getOrderId(), _ -> new HashMap<>())
+                        .put(p.getProductId(), p.getQuantity()));
+        var contributions = affected.stream()
+                .map(state -> new PlanContribution(state.getLocationId(), state.getDueDate(),
+                        state.getDueTime().getHour(), quantitiesByOrderId.getOrDefault(state.getId(), Map.of())))
+                .toList();
+        if (PlanContribution.isPlanned(newStatus)) {
+            productionPlanService.addAll(contributions);
+        } else {
+            productionPlanService.subtractAll(contributions);
+        }
+    }
+
+    /**
+     * Records that the order entered its current status, by the current user.
+     */
+    private void publishTransition(OrderEntity order) {
+        var userId = currentUserService.getCurrentUser().map(UserDetail::getId).orElse(null);
+        eventPublisher.publishEvent(Transition.of(order, userId));
+    }
+
+    /**
+     * Status codes matched by the filter; no statuses means all.
+     */
+    private List<OrderStatusCode> statusCodes(OrderFilter filter) {
+        return filter.statuses() == null || filter.statuses().isEmpty()
+                ? List.of(OrderStatusCode.values())
+                : filter.statuses().stream().map(enumMapper::toOrderStatusCode).toList();
+    }
+
+    /**
+     * Lower-case LIKE pattern for the filter's customer name; a blank name matches all.
+     * Wildcards typed by the user match literally ({@code !} is the queries' escape character).
+     */
+    private static String customerNamePattern(OrderFilter filter) {
+        if (filter.customerName() == null || filter.customerName().isBlank()) {
+            return "%";
+        }
+        var name = filter.customerName().trim().toLowerCase()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + name + "%";
+    }
+
+    /**
+     * Maps order list projections and attaches their items, loaded with a single query for all orders.
+     */
+    private List<OrderList> toListWithItems(List<OrderListProjection> orders) {
+        return toListWithItems(orders, orderItemRepository::findProjectedByOrderIdIn);
+    }
+
+    /**
+     * Maps order list projections and attaches their items, loaded with a single call to the item loader.
+     */
+    private List<OrderList> toListWithItems(List<OrderListProjection> orders,
+                                            Function<Collection<Long>, List<OrderItemSummaryProjection>> itemLoader) {
+        var result = orderMapper.toListList(orders);
+        if (result.isEmpty()) {
+            return result;
+        }
+
+        var orderIds = result.stream().map(OrderList::getId).toList();
+        var itemsByOrderId = itemLoader.apply(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderItemSummaryProjection::getOrderId));
+        for (var order : result) {
+            var items = itemsByOrderId.getOrDefault(order.getId(), List.of());
+            order.setItems(orderItemMapper.toSummaryList(items));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,38 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.vaadin.bakery.jpaclient.repository.OrderStatusHistoryRepository;
+import org.vaadin.bakery.jpaservice.mapper.EnumMapper;
+import org.vaadin.bakery.service.OrderStatusAnalyticsService;
+import org.vaadin.bakery.uimodel.type.OrderStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JPA implementation of the order status analytics service.
+ * The durations are computed in the database with percentile aggregates, so no history rows are loaded.
+ */
+@Service
+@Transactional(readOnly = true)
+public class JpaOrderStatusAnalyticsService implements OrderStatusAnalyticsService {
+
+    private final OrderStatusHistoryRepository historyRepository;
+    private final EnumMapper enumMapper;
+
+    public JpaOrderStatusAnalyticsService(OrderStatusHistoryRepository historyRepository, EnumMapper enumMapper) {
+        this.historyRepository = historyRepository;
+        this.enumMapper = enumMapper;
+    }
+
+    @Override
+    public List<StatusDuration> getTimeBetween(OrderStatus from, OrderStatus to, Instant since, Instant until) {
+        return historyRepository.summarizeDurations(
+                        enumMapper.toOrderStatusCode(from).name(), enumMapper.toOrderStatusCode(to).name(), since, until)
+                .stream()
+                .map(p -> new StatusDuration(p.getLocationName(), p.getProductName(), p.getOrderCount(),
+                        p.getMedianMinutes(), p.getP90Minutes()))
+                .toList();
+    }
+}
@@ -0,0 +1,190 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+import org.vaadin.bakery.jpamodel.entity.OrderDailySummaryEntity;
+import org.vaadin.bakery.jpamodel.entity.OrderEntity;
+import org.vaadin.bakery.jpaclient.repository.ArchivedOrderRepository;
+import org.vaadin.bakery.jpaclient.repository.LocationRepository;
+import org.vaadin.bakery.jpaclient.repository.OrderDailySummaryRepository;
+import org.vaadin.bakery.jpaclient.repository.OrderDailySummaryUpserts.SummaryDelta;
+import org.vaadin.bakery.jpaclient.repository.OrderRepository;
+import org.vaadin.bakery.service.OrderSummaryService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * JPA implementation of the order summary service.
+ * Rebuilds count live and archived orders alike, since archiving an order does not change the summary.
+ * Besides the rebuild operations, exposes the incremental maintenance used by
+ * {@link JpaOrderService} within the caller's transaction.
+ */
+@Service
+@Transactional
+public class JpaOrderSummaryService implements OrderSummaryService {
+
+    private final OrderDailySummaryRepository summaryRepository;
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final LocationRepository locationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaOrderSummaryService(OrderDailySummaryRepository summaryRepository, OrderRepository orderRepository,
+                                  ArchivedOrderRepository archivedOrderRepository,
+                                  LocationRepository locationRepository, PlatformTransactionManager transactionManager) {
+        this.summaryRepository = summaryRepository;
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.locationRepository = locationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuild() {
+        var earliest = Stream.of(orderRepository.findEarliestDueDate(), archivedOrderRepository.findEarliestDueDate())
+                .flatMap(Optional::stream)
+                .min(Comparator.naturalOrder());
+        var latest = Stream.of(orderRepository.findLatestDueDate(), archivedOrderRepository.findLatestDueDate())
+                .flatMap(Optional::stream)
+                .max(Comparator.naturalOrder());
+        if (earliest.isEmpty() || latest.isEmpty()) {
+            transactionTemplate.executeWithoutResult(_ -> summaryRepository.deleteAllInBatch());
+            return 0;
+        }
+        return rebuild(earliest.get(), latest.get());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuild(LocalDate startDate, LocalDate endDate) {
+        var written = 0L;
+        // One transaction per month keeps the persistence context and lock footprint bounded
+        for (var month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            var chunkStart = month.atDay(1).isBefore(startDate) ? startDate : month.atDay(1);
+            var chunkEnd = month.atEndOfMonth().isAfter(endDate) ? endDate : month.atEndOfMonth();
+            Long chunkWritten = transactionTemplate.execute(_ -> rebuildChunk(chunkStart, chunkEnd));
+            written += chunkWritten != null ? chunkWritten : 0;
+        }
+        return written;
+    }
+
+    private long rebuildChunk(LocalDate startDate, LocalDate endDate) {
+        summaryRepository.deleteBySummaryDateBetween(startDate, endDate);
+
+        // A key can have both live and archived orders, so the two aggregates are added up
+        var counts = new HashMap<Contribution, Long>();
+        var totals = new HashMap<Contribution, BigDecimal>();
+        Stream.concat(
+                orderRepository.summarizeByDueDateBetween(startDate, endDate).stream(),
+                archivedOrderRepository.summarizeByDueDateBetween(startDate, endDate).stream()
+        ).forEach(p -> {
+            var key = new Contribution(p.getLocationId(), p.getDueDate(), p.getStatus(), BigDecimal.ZERO);
+            counts.merge(key, p.getOrderCount(), Long::sum);
+            totals.merge(key, p.getTotalAmount() != null ? p.getTotalAmount() : BigDecimal.ZERO, BigDecimal::add);
+        });
+
+        var rows = counts.entrySet().stream()
+                .map(entry -> {
+                    var key = entry.getKey();
+                    var row = new OrderDailySummaryEntity();
+                    row.setLocation(locationRepository.getReferenceById(key.locationId()));
+                    row.setSummaryDate(key.dueDate());
+                    row.setStatus(key.status());
+                    row.setOrderCount(entry.getValue());
+                    row.setTotalAmount(totals.get(key));
+                    return row;
+                })
+                .toList();
+        summaryRepository.saveAll(rows);
+        return rows.size();
+    }
+
+    /**
+     * Adds an order's contribution to the summary.
+     */
+    public void add(Contribution contribution) {
+        replaceAll(List.of(), List.of(contribution));
+    }
+
+    /**
+     * Adds the contributions of many orders, with one summary update per location, date and status.
+     */
+    public void addAll(Collection<Contribution> contributions) {
+        replaceAll(List.of(), contributions);
+    }
+
+    /**
+     * Removes an order's contribution from the summary.
+     */
+    public void subtract(Contribution contribution) {
+        replaceAll(List.of(contribution), List.of());
+    }
+
+    /**
+     * Moves the contributions of many orders at once, with one summary update per location, date and
+     * status whose count or total changes. All updates go to the database as one batched upsert.
+     */
+    public void replaceAll(Collection<Contribution> before, Collection<Contribution> after) {
+        var counts = new HashMap<Contribution, Long>();
+        var totals = new HashMap<Contribution, BigDecimal>();
+        for (var contribution : before) {
+            var key = new Contribution(contribution.locationId(), contribution.dueDate(), contribution.status(),
+                    BigDecimal.ZERO);
+            counts.merge(key, -1L, Long::sum);
+            totals.merge(key, contribution.total().negate(), BigDecimal::add);
+        }
+        for (var contribution : after) {
+            var key = new Contribution(contribution.locationId(), contribution.dueDate(), contribution.status(),
+                    BigDecimal.ZERO);
+            counts.merge(key, 1L, Long::sum);
+            totals.merge(key, contribution.total(), BigDecimal::add);
+        }
+
+        var deltas = new ArrayList<SummaryDelta>();
+        counts.forEach((key, count) -> {
+            var total = totals.get(key);
+            if (count != 0 || total.signum() != 0) {
+                deltas.add(new SummaryDelta(key.locationId(), key.dueDate(), key.status(), count, total));
+            }
+        });
+        summaryRepository.applyDeltas(deltas);
+    }
+
+    /**
+     * Moves an order's contribution after a change of location, due date, status or total.
+     */
+    public void replace(Contribution before, Contribution after) {
+        if (before.equals(after)) {
+            return;
+        }
+        replaceAll(List.of(before), List.of(after));
+    }
+
+    /**
+     * The summary key and revenue an order contributes, captured before or after a change.
+     */
+    public record Contribution(Long locationId, LocalDate dueDate, OrderStatusCode status, BigDecimal total) {
+
+        public static Contribution of(OrderEntity order) {
+            return new Contribution(
+                    order.getLocation().getId(),
+                    order.getDueDate(),
+                    order.getStatus(),
+                    order.getTotal() != null ? order.getTotal() : BigDecimal.ZERO);
+        }
+    }
+}
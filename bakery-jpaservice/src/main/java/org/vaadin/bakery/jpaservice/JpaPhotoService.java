@@ -0,0 +1,158 @@
+package org.vaadin.bakery.jpaservice;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.vaadin.bakery.jpaclient.repository.ProductRepository;
+import org.vaadin.bakery.jpaclient.repository.UserRepository;
+import org.vaadin.bakery.jpamodel.projection.PhotoMetadataProjection;
+import org.vaadin.bakery.service.PhotoService;
+
+import javax.imageio.ImageIO;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JPA implementation of the photo service.
+ * Photos are read with plain JDBC on the transaction's connection, so that only the BLOB of the requested
+ * photo is read and the entity's {@code byte[]} is never loaded with it.
+ */
+@Service
+@Transactional(readOnly = true)
+public class JpaPhotoService implements PhotoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JpaPhotoService.class);
+
+    /**
+     * Thumbnails of a few KB each; enough for every avatar of a busy grid in a few sizes.
+     */
+    private static final int MAX_CACHED_THUMBNAILS = 1000;
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+
+    private final Map<ThumbnailKey, byte[]> thumbnails = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ThumbnailKey, byte[]> eldest) {
+                    return size() > MAX_CACHED_THUMBNAILS;
+                }
+            });
+
+    public JpaPhotoService(UserRepository userRepository, ProductRepository productRepository,
+                           EntityManager entityManager) {
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<PhotoInfo> getInfo(PhotoOwner owner, Long id) {
+        var metadata = switch (owner) {
+            case USER -> userRepository.findPhotoMetadataById(id);
+            case PRODUCT -> productRepository.findPhotoMetadataById(id);
+        };
+        return metadata
+                .filter(m -> m.getPhotoContentType() != null)
+                .map(JpaPhotoService::toInfo);
+    }
+
+    @Override
+    public Optional<byte[]> getPhoto(PhotoOwner owner, Long id) {
+        return readPhoto(owner, id, InputStream::readAllBytes);
+    }
+
+    @Override
+    public Optional<byte[]> getThumbnail(PhotoOwner owner, Long id, int size) {
+        var info = getInfo(owner, id);
+        if (info.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var key = new ThumbnailKey(owner, id, info.get().version(), size);
+        var cached = thumbnails.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        var thumbnail = readPhoto(owner, id, in -> createThumbnail(in, size));
+        thumbnail.ifPresent(bytes -> thumbnails.put(key, bytes));
+        return thumbnail;
+    }
+
+    private <T> Optional<T> readPhoto(PhotoOwner owner, Long id, PhotoReader<T> reader) {
+        var table = switch (owner) {
+            case USER -> "app_user";
+            case PRODUCT -> "product";
+        };
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (var statement = connection.prepareStatement("SELECT photo FROM " + table + " WHERE id = ?")) {
+                statement.setLong(1, id);
+                try (var resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        return Optional.empty();
+                    }
+                    try (var in = resultSet.getBinaryStream(1)) {
+                        return in != null ? Optional.ofNullable(reader.read(in)) : Optional.empty();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Scales the image to cover a square of the given size and crops the overflow, like CSS {@code object-fit: cover}.
+     */
+    private static byte[] createThumbnail(InputStream in, int size) throws IOException {
+        var image = ImageIO.read(in);
+        if (image == null) {
+            logger.warn("Photo is not in a readable image format, serving it without a thumbnail");
+            return null;
+        }
+
+        var scale = Math.max((double) size / image.getWidth(), (double) size / image.getHeight());
+        var scaledWidth = (int) Math.round(image.getWidth() * scale);
+        var scaledHeight = (int) Math.round(image.getHeight() * scale);
+
+        var thumbnail = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        var graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, (size - scaledWidth) / 2, (size - scaledHeight) / 2,
+                    scaledWidth, scaledHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, "png", out);
+        return out.toByteArray();
+    }
+
+    private static PhotoInfo toInfo(PhotoMetadataProjection metadata) {
+        return new PhotoInfo(metadata.getPhotoContentType(), metadata.getVersion());
+    }
+
+    @FunctionalInterface
+    private interface PhotoReader<T> {
+        T read(InputStream in) throws IOException;
+    }
+
+    private record ThumbnailKey(PhotoOwner owner, Long id, int version, int size) {
+    }
+}
@@ -1,9 +1,13 @@
 package org.vaadin.bakery.jpaservice;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.vaadin.bakery.jpaclient.repository.ProductRepository;
 import org.vaadin.bakery.jpamodel.projection.ProductSelectProjection;
+import org.vaadin.bakery.jpaservice.cache.SnapshotCache;
 import org.vaadin.bakery.jpaservice.mapper.ProductMapper;
 import org.vaadin.bakery.service.ProductService;
 import org.vaadin.bakery.uimodel.data.ProductSelect;
@@ -14,6 +18,7 @@ import java.util.Optional;
 
 /**
  * JPA implementation of the product service.
+ * Available products are cached application-wide and reloaded after any product change.
  */
 @Service
 @Transactional
@@ -21,10 +26,13 @@ public class JpaProductService implements ProductService {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final SnapshotCache<List<ProductSelectProjection>> availableProducts;
 
-    public JpaProductService(ProductRepository productRepository, ProductMapper productMapper) {
+    public JpaProductService(ProductRepository productRepository, ProductMapper productMapper,
+                             ObjectProvider<MeterRegistry> meterRegistryProvider) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.availableProducts = new SnapshotCache<>("products.available", meterRegistryProvider);
     }
 
     @Override
@@ -34,9 +42,10 @@ public class JpaProductService implements ProductService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ProductSelect> listAvailable() {
-        return productMapper.toSelectList(productRepository.findByAvailableTrueOrderByNameAsc(ProductSelectProjection.class));
+        return productMapper.toSelectList(availableProducts.get(() ->
+                List.copyOf(productRepository.findByAvailableTrueOrderByNameAsc(ProductSelectProjection.class))));
     }
 
     @Override
@@ -47,6 +56,7 @@ public class JpaProductService implements ProductService {
 
     @Override
     public ProductSummary create(ProductSummary product) {
+        availableProducts.invalidate();
         var entity = productMapper.toNewEntity(product);
         var saved = productRepository.save(entity);
         return productMapper.toSummary(saved);
@@ -57,12 +67,14 @@ public class JpaProductService implements ProductService {
         var entity = productRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found: " + id));
         productMapper.toEntity(product, entity);
+        availableProducts.invalidate();
         return productMapper.toSummary(entity);
     }
 
     @Override
     public void delete(Long id) {
         productRepository.deleteById(id);
+        availableProducts.invalidate();
     }
 
     @Override
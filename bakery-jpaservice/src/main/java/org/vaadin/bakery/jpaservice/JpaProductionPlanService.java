@@ -0,0 +1,222 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.vaadin.bakery.jpaclient.repository.ArchivedOrderRepository;
+import org.vaadin.bakery.jpaclient.repository.LocationRepository;
+import org.vaadin.bakery.jpaclient.repository.OrderRepository;
+import org.vaadin.bakery.jpaclient.repository.ProductRepository;
+import org.vaadin.bakery.jpaclient.repository.ProductionPlanRepository;
+import org.vaadin.bakery.jpaclient.repository.ProductionPlanUpserts.PlanDelta;
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+import org.vaadin.bakery.jpamodel.entity.OrderEntity;
+import org.vaadin.bakery.jpamodel.entity.OrderItemEntity;
+import org.vaadin.bakery.jpamodel.entity.ProductionPlanEntity;
+import org.vaadin.bakery.service.ProductionPlanService;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * JPA implementation of the production plan service.
+ * Besides reading and rebuilding the plan, exposes the incremental maintenance used by
+ * {@link JpaOrderService} within the caller's transaction, in the same way as {@link JpaOrderSummaryService}.
+ */
+@Service
+@Transactional
+public class JpaProductionPlanService implements ProductionPlanService {
+
+    private final ProductionPlanRepository planRepository;
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final LocationRepository locationRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaProductionPlanService(ProductionPlanRepository planRepository, OrderRepository orderRepository,
+                                    ArchivedOrderRepository archivedOrderRepository,
+                                    LocationRepository locationRepository, ProductRepository productRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.planRepository = planRepository;
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.locationRepository = locationRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlanLine> getPlan(LocalDate date, @Nullable Long locationId) {
+        return planRepository.findLinesByPlanDate(date, locationId).stream()
+                .map(p -> new PlanLine(p.getPickupHour(), p.getLocationName(), p.getProductName(),
+                        p.getProductSize(), p.getQuantity()))
+                .toList();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuild() {
+        var earliest = Stream.of(orderRepository.findEarliestDueDate(), archivedOrderRepository.findEarliestDueDate())
+                .flatMap(Optional::stream)
+                .min(Comparator.naturalOrder());
+        var latest = Stream.of(orderRepository.findLatestDueDate(), archivedOrderRepository.findLatestDueDate())
+                .flatMap(Optional::stream)
+                .max(Comparator.naturalOrder());
+        if (earliest.isEmpty() || latest.isEmpty()) {
+            transactionTemplate.executeWithoutResult(_ -> planRepository.deleteAllInBatch());
+            return 0;
+        }
+        return rebuild(earliest.get(), latest.get());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuild(LocalDate startDate, LocalDate endDate) {
+        var written = 0L;
+        // One transaction per month keeps the persistence context and lock footprint bounded
+        for (var month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            var chunkStart = month.atDay(1).isBefore(startDate) ? startDate : month.atDay(1);
+            var chunkEnd = month.atEndOfMonth().isAfter(endDate) ? endDate : month.atEndOfMonth();
+            Long chunkWritten = transactionTemplate.execute(_ -> rebuildChunk(chunkStart, chunkEnd));
+            written += chunkWritten != null ? chunkWritten : 0;
+        }
+        return written;
+    }
+
+    private long rebuildChunk(LocalDate startDate, LocalDate endDate) {
+        planRepository.deleteByPlanDateBetween(startDate, endDate);
+
+        // Archived orders are in the plan too; a key can have both live and archived orders
+        var merged = new HashMap<PlanContribution, Map<Long, Long>>();
+        Stream.concat(
+                orderRepository.summarizeItemsByDueDateBetween(startDate, endDate, OrderStatusCode.CANCELLED)
+                        .stream(),
+                archivedOrderRepository.summarizeItemsByDueDateBetween(startDate, endDate, OrderStatusCode.CANCELLED)
+                        .stream()
+        ).forEach(p -> {
+            var key = new PlanContribution(p.getLocationId(), p.getDueDate(), p.getPickupHour(), Map.of());
+            merged.computeIfAbsent(key, _ -> new HashMap<>()).merge(p.getProductId(), p.getQuantity(), Long::sum);
+        });
+
+        var rows = new ArrayList<ProductionPlanEntity>();
+        merged.forEach((key, quantities) -> quantities.forEach((productId, quantity) -> {
+            var row = new ProductionPlanEntity();
+            row.setLocation(locationRepository.getReferenceById(key.locationId()));
+            row.setPlanDate(key.dueDate());
+            row.setPickupHour(key.pickupHour());
+            row.setProduct(productRepository.getReferenceById(productId));
+            row.setQuantity(quantity);
+            rows.add(row);
+        }));
+        planRepository.saveAll(rows);
+        return rows.size();
+    }
+
+    /**
+     * Adds an order's quantities to the plan.
+     */
+    public void add(PlanContribution contribution) {
+        replaceAll(List.of(), List.of(contribution));
+    }
+
+    /**
+     * Adds the quantities of many orders, with one plan update per location, date, hour and product.
+     */
+    public void addAll(Collection<PlanContribution> contributions) {
+        replaceAll(List.of(), contributions);
+    }
+
+    /**
+     * Removes the quantities of many orders, with one plan update per location, date, hour and product.
+     */
+    public void subtractAll(Collection<PlanContribution> contributions) {
+        replaceAll(contributions, List.of());
+    }
+
+    /**
+     * Removes an order's quantities from the plan.
+     */
+    public void subtract(PlanContribution contribution) {
+        replaceAll(List.of(contribution), List.of());
+    }
+
+    /**
+     * Moves an order's quantities after a change of location, due date or time, or cancellation.
+     */
+    public void replace(PlanContribution before, PlanContribution after) {
+        if (before.equals(after)) {
+            return;
+        }
+        replaceAll(List.of(before), List.of(after));
+    }
+
+    /**
+     * Nets the quantities per location, date, hour and product and writes the rows that change with one
+     * batched upsert, however many products the orders have.
+     */
+    private void replaceAll(Collection<PlanContribution> before, Collection<PlanContribution> after) {
+        var merged = new HashMap<PlanContribution, Map<Long, Long>>();
+        for (var contribution : before) {
+            var quantities = merged.computeIfAbsent(keyOf(contribution), _ -> new HashMap<>());
+            contribution.quantities().forEach((productId, quantity) -> quantities.merge(productId, -quantity, Long::sum));
+        }
+        for (var contribution : after) {
+            var quantities = merged.computeIfAbsent(keyOf(contribution), _ -> new HashMap<>());
+            contribution.quantities().forEach((productId, quantity) -> quantities.merge(productId, quantity, Long::sum));
+        }
+
+        var deltas = new ArrayList<PlanDelta>();
+        merged.forEach((key, quantities) -> quantities.forEach((productId, quantity) -> {
+            if (quantity != 0) {
+                deltas.add(new PlanDelta(key.locationId(), key.dueDate(), key.pickupHour(), productId, quantity));
+            }
+        }));
+        planRepository.applyDeltas(deltas);
+    }
+
+    private static PlanContribution keyOf(PlanContribution contribution) {
+        return new PlanContribution(contribution.locationId(), contribution.dueDate(), contribution.pickupHour(),
+                Map.of());
+    }
+
+    /**
+     * The plan key and item quantities (product ID -> quantity) an order contributes, captured before or
+     * after a change. Cancelled orders contribute nothing.
+     */
+    public record PlanContribution(Long locationId, LocalDate dueDate, int pickupHour, Map<Long, Long> quantities) {
+
+        public static PlanContribution of(OrderEntity order) {
+            var quantities = !isPlanned(order.getStatus())
+                    ? Map.<Long, Long>of()
+                    : order.getItems().stream().collect(Collectors.groupingBy(
+                            item -> item.getProduct().getId(),
+                            Collectors.summingLong(OrderItemEntity::getQuantity)));
+            return new PlanContribution(
+                    order.getLocation().getId(),
+                    order.getDueDate(),
+                    order.getDueTime().getHour(),
+                    quantities);
+        }
+
+        /**
+         * Whether orders in the status are part of the plan.
+         */
+        public static boolean isPlanned(OrderStatusCode status) {
+            return status != OrderStatusCode.CANCELLED;
+        }
+    }
+}
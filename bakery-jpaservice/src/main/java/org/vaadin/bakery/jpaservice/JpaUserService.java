@@ -6,6 +6,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.vaadin.bakery.jpamodel.entity.UserEntity;
 import org.vaadin.bakery.jpaclient.repository.UserRepository;
 import org.vaadin.bakery.jpaservice.mapper.UserMapper;
+import org.vaadin.bakery.jpaservice.security.CurrentUserCache;
 import org.vaadin.bakery.service.UserService;
 import org.vaadin.bakery.uimodel.data.UserDetail;
 import org.vaadin.bakery.uimodel.data.UserSummary;
@@ -23,11 +24,14 @@ public class JpaUserService implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final CurrentUserCache currentUserCache;
 
-    public JpaUserService(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder) {
+    public JpaUserService(UserRepository userRepository, UserMapper userMapper, PasswordEncoder passwordEncoder,
+                          CurrentUserCache currentUserCache) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
+        this.currentUserCache = currentUserCache;
     }
 
     @Override
@@ -74,7 +78,10 @@ public class JpaUserService implements UserService {
     public UserDetail update(Long id, UserDetail user) {
         var entity = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + id));
+        // Both the old and the new email, in case it changes
+        currentUserCache.invalidate(entity.getEmail());
         userMapper.toEntity(user, entity);
+        currentUserCache.invalidate(entity.getEmail());
         if (user.getPassword() != null && !user.getPassword().isBlank()) {
             entity.setPasswordHash(passwordEncoder.encode(user.getPassword()));
         }
@@ -83,6 +90,7 @@ public class JpaUserService implements UserService {
 
     @Override
     public void delete(Long id) {
+        userRepository.findById(id).ifPresent(entity -> currentUserCache.invalidate(entity.getEmail()));
         userRepository.deleteById(id);
     }
 
@@ -91,6 +99,7 @@ public class JpaUserService implements UserService {
         var entity = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + id));
         entity.setPasswordHash(passwordEncoder.encode(newPassword));
+        currentUserCache.invalidate(entity.getEmail());
     }
 
     @Override
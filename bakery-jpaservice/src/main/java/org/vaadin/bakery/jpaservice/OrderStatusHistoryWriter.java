@@ -0,0 +1,154 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.vaadin.bakery.jpaclient.repository.OrderRepository;
+import org.vaadin.bakery.jpaclient.repository.OrderStatusHistoryRepository;
+import org.vaadin.bakery.jpaclient.repository.UserRepository;
+import org.vaadin.bakery.jpamodel.code.OrderStatusCode;
+import org.vaadin.bakery.jpamodel.entity.OrderEntity;
+import org.vaadin.bakery.jpamodel.entity.OrderStatusHistoryEntity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends order status transitions to the status history in batches.
+ * <p>
+ * Services publish a {@link Transition} inside their transaction; it is queued here after commit, so
+ * rolled back transitions are never recorded and the committing request only pays for the enqueue.
+ * A single background thread writes the queue every {@value #FLUSH_INTERVAL_MILLIS} ms in transactions
+ * of up to {@value #MAX_BATCH} rows, sent as JDBC batches. A batch that fails is written again row by row,
+ * so one bad row does not lose the others; rows that still fail are logged in full. The queue is bounded;
+ * if the database falls that far behind, the publishing thread writes a batch itself before queueing, which
+ * slows down status changes instead of losing transitions. Queued transitions are written on shutdown.
+ */
+@Service
+public class OrderStatusHistoryWriter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatusHistoryWriter.class);
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int MAX_BATCH = 500;
+    private static final long FLUSH_INTERVAL_MILLIS = 500;
+
+    private final OrderStatusHistoryRepository historyRepository;
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<Transition> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("status-history").daemon().factory());
+
+    public OrderStatusHistoryWriter(OrderStatusHistoryRepository historyRepository, OrderRepository orderRepository,
+                                    UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.historyRepository = historyRepository;
+        this.orderRepository = orderRepository;
+        this.userRepository = userRepository;
+        // A new transaction also when called after the publisher's commit
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        writer.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues a committed transition. Transitions published outside a transaction are queued right away.
+     * While the queue is full, the calling thread writes the oldest batch itself.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransition(Transition transition) {
+        while (!queue.offer(transition)) {
+            write(drainBatch());
+        }
+    }
+
+    /**
+     * Writes everything queued so far. Runs on the writer thread, and on shutdown.
+     */
+    private void flush() {
+        List<Transition> batch;
+        while (!(batch = drainBatch()).isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private List<Transition> drainBatch() {
+        var batch = new ArrayList<Transition>(MAX_BATCH);
+        queue.drainTo(batch, MAX_BATCH);
+        return batch;
+    }
+
+    /**
+     * Writes the batch in one transaction, or row by row if that fails.
+     */
+    private void write(List<Transition> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            writeInTransaction(batch);
+        } catch (RuntimeException e) {
+            logger.warn("Writing {} status history rows failed, retrying them one by one", batch.size(), e);
+            for (var transition : batch) {
+                try {
+                    writeInTransaction(List.of(transition));
+                } catch (RuntimeException rowFailure) {
+                    logger.error("Status history row could not be written, it is lost: {}", transition, rowFailure);
+                }
+            }
+        }
+    }
+
+    private void writeInTransaction(List<Transition> transitions) {
+        transactionTemplate.executeWithoutResult(_ -> historyRepository.saveAll(transitions.stream()
+                .map(this::toEntity)
+                .toList()));
+    }
+
+    private OrderStatusHistoryEntity toEntity(Transition transition) {
+        var entity = new OrderStatusHistoryEntity();
+        entity.setOrder(orderRepository.getReferenceById(transition.orderId()));
+        entity.setStatus(transition.status());
+        entity.setChangedBy(transition.changedById() != null
+                ? userRepository.getReferenceById(transition.changedById())
+                : null);
+        entity.setChangedAt(transition.changedAt());
+        return entity;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /**
+     * An order entering a status.
+     *
+     * @param orderId the order
+     * @param status the status entered
+     * @param changedById the user who made the change, null for system changes
+     * @param changedAt when the change was made
+     */
+    public record Transition(Long orderId, OrderStatusCode status, @Nullable Long changedById, Instant changedAt) {
+
+        public static Transition of(OrderEntity order, @Nullable Long changedById) {
+            return new Transition(order.getId(), order.getStatus(), changedById, Instant.now());
+        }
+    }
+}
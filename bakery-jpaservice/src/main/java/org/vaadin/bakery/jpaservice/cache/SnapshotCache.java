@@ -0,0 +1,94 @@
+package org.vaadin.bakery.jpaservice.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Holds one application-wide snapshot of reference data, loaded on first use and dropped on every write.
+ * <p>
+ * Cache immutable values only (e.g. lists of repository projections) and map them to fresh UI models
+ * per call, so sessions never share mutable objects.
+ * <p>
+ * {@link #invalidate()} drops the snapshot immediately and again when the surrounding transaction completes.
+ * A load that overlaps a write is returned to its caller but not kept, so the snapshot never outlives
+ * the data it was read from.
+ * <p>
+ * Lookups are published as {@code bakery.cache.gets}, tagged by cache name and {@code result=hit|miss}.
+ *
+ * @param <T> snapshot type
+ */
+public class SnapshotCache<T> {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile T snapshot;
+    private long generation;
+
+    public SnapshotCache(String name, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        meterRegistryProvider.ifAvailable(meterRegistry -> {
+            registerGets(meterRegistry, name, "hit", hits);
+            registerGets(meterRegistry, name, "miss", misses);
+        });
+    }
+
+    /**
+     * Returns the snapshot, loading it if there is none.
+     *
+     * @param loader loads the data from the database; called outside any lock
+     */
+    public T get(Supplier<T> loader) {
+        var current = snapshot;
+        if (current != null) {
+            hits.increment();
+            return current;
+        }
+
+        misses.increment();
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+        }
+        var loaded = loader.get();
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the snapshot. Call from every method that changes the cached data.
+     */
+    public void invalidate() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    private synchronized void clear() {
+        generation++;
+        snapshot = null;
+    }
+
+    private static void registerGets(MeterRegistry meterRegistry, String name, String result, LongAdder count) {
+        FunctionCounter.builder("bakery.cache.gets", count, LongAdder::sum)
+                .description("Reference data cache lookups")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
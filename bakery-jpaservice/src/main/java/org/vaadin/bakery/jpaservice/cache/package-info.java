@@ -0,0 +1,5 @@
+/**
+ * Application-wide caches for rarely changing reference data.
+ */
+@org.springframework.lang.NonNullApi
+package org.vaadin.bakery.jpaservice.cache;
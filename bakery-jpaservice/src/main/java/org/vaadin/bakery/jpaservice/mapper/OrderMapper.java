@@ -5,6 +5,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.MappingTarget;
 import org.vaadin.bakery.jpamodel.entity.OrderEntity;
+import org.vaadin.bakery.jpamodel.projection.OrderListProjection;
 import org.vaadin.bakery.uimodel.data.OrderDashboard;
 import org.vaadin.bakery.uimodel.data.OrderDetail;
 import org.vaadin.bakery.uimodel.data.OrderList;
@@ -21,7 +22,14 @@ public interface OrderMapper {
     @Mapping(source = "location.name", target = "locationName")
     OrderList toList(OrderEntity entity);
 
-    List<OrderList> toListList(List<OrderEntity> entities);
+    List<OrderList> toListListFromEntities(List<OrderEntity> entities);
+
+    @Mapping(target = "items", ignore = true)
+    @Mapping(target = "createdByName", ignore = true)
+    @Mapping(target = "updatedByName", ignore = true)
+    OrderList toList(OrderListProjection projection);
+
+    List<OrderList> toListList(List<OrderListProjection> projections);
 
     @Mapping(source = "customer.id", target = "customerId")
     @Mapping(source = "customer.name", target = "customerName")
@@ -4,6 +4,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.vaadin.bakery.jpamodel.entity.ProductEntity;
 import org.vaadin.bakery.jpamodel.projection.ProductSelectProjection;
 import org.vaadin.bakery.jpamodel.projection.ProductSummaryProjection;
@@ -18,10 +19,12 @@ import java.util.List;
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface ProductMapper {
 
+    @Mapping(target = "photo", ignore = true)
     ProductSummary toSummary(ProductSummaryProjection projection);
 
     List<ProductSummary> toSummaryList(List<ProductSummaryProjection> projections);
 
+    @Mapping(target = "photo", ignore = true)
     ProductSummary toSummary(ProductEntity entity);
 
     ProductSelect toSelect(ProductSelectProjection projection);
@@ -30,6 +33,7 @@ public interface ProductMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "photo", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     ProductEntity toEntity(ProductSummary summary, @MappingTarget ProductEntity entity);
 
     @Mapping(target = "version", ignore = true)
@@ -5,6 +5,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.vaadin.bakery.jpamodel.entity.LocationEntity;
 import org.vaadin.bakery.jpamodel.entity.UserEntity;
@@ -29,12 +30,20 @@ public abstract class UserMapper {
     public abstract List<UserSummary> toSummaryList(List<UserSummaryProjection> projections);
 
     @Mapping(target = "password", ignore = true)
+    @Mapping(target = "photo", ignore = true)
     @Mapping(target = "primaryLocationId", source = "primaryLocation.id")
     public abstract UserDetail toDetail(UserEntity entity);
 
+    @Mapping(target = "password", ignore = true)
+    @Mapping(target = "photo", ignore = true)
+    public abstract UserDetail toDetail(UserSummaryProjection projection);
+
+    public abstract UserDetail copyDetail(UserDetail detail);
+
     @Mapping(target = "passwordHash", ignore = true)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "photo", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "primaryLocation", source = "primaryLocationId", qualifiedByName = "locationIdToEntity")
     public abstract UserEntity toEntity(UserDetail detail, @MappingTarget UserEntity entity);
 
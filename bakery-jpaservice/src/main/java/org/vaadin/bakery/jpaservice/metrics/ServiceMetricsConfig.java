@@ -0,0 +1,52 @@
+package org.vaadin.bakery.jpaservice.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.scope.ScopedObject;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.reflect.Method;
+
+/**
+ * Instruments every bean implementing a {@code bakery-service} interface with {@link ServiceMetricsInterceptor}.
+ * The meters are published as {@code bakery.service.calls}, {@code bakery.service.statements}
+ * and {@code bakery.service.rows}, tagged by service interface and method. Statement and row counts need
+ * Hibernate statistics with {@code CallStatistics} (see application.properties); without them they record zero.
+ */
+@Configuration
+public class ServiceMetricsConfig {
+
+    @Bean
+    static ServiceMetricsPostProcessor serviceMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new ServiceMetricsPostProcessor(meterRegistryProvider);
+    }
+
+    /**
+     * Adds the metrics advisor ahead of existing advisors (e.g. transactions),
+     * so the measurement includes the commit.
+     */
+    static class ServiceMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+        ServiceMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+            var pointcut = new StaticMethodMatcherPointcut() {
+                @Override
+                public boolean matches(Method method, Class<?> targetClass) {
+                    return ServiceMetricsInterceptor.findServiceInterface(method, targetClass) != null;
+                }
+            };
+            this.advisor = new DefaultPointcutAdvisor(pointcut, new ServiceMetricsInterceptor(meterRegistryProvider));
+            setBeforeExistingAdvisors(true);
+            setProxyTargetClass(true);
+        }
+
+        @Override
+        protected boolean isEligible(Object bean, String beanName) {
+            // Scoped proxies delegate to their target bean, which is instrumented itself
+            return !(bean instanceof ScopedObject) && super.isEligible(bean, beanName);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.vaadin.bakery.jpaservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+import org.vaadin.bakery.jpaclient.config.CallStatistics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records latency, JDBC statements and rows fetched for each call of a {@code bakery-service} interface method.
+ * Counts come from {@link CallStatistics} and, like the timings, are inclusive: a service calling another
+ * service contributes its statements to both.
+ */
+class ServiceMetricsInterceptor implements MethodInterceptor {
+
+    static final String SERVICE_PACKAGE = "org.vaadin.bakery.service";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<Method, Meters> metersByMethod = new ConcurrentHashMap<>();
+
+    ServiceMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null || invocation.getThis() == null) {
+            return invocation.proceed();
+        }
+
+        var statementsBefore = CallStatistics.statements();
+        var rowsBefore = CallStatistics.rows();
+        var sample = Timer.start(meterRegistry);
+        var success = false;
+        try {
+            var result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            var meters = metersByMethod.computeIfAbsent(invocation.getMethod(),
+                    method -> Meters.register(meterRegistry, serviceTags(method, invocation.getThis().getClass())));
+
+            sample.stop(success ? meters.success() : meters.error());
+            meters.statements().record(CallStatistics.statements() - statementsBefore);
+            meters.rows().record(CallStatistics.rows() - rowsBefore);
+        }
+    }
+
+    /**
+     * Finds the bakery-service interface declaring the method, or null if there is none.
+     */
+    static Class<?> findServiceInterface(Method method, Class<?> targetClass) {
+        for (var candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (candidate.getPackageName().startsWith(SERVICE_PACKAGE)
+                    && ClassUtils.hasMethod(candidate, method.getName(), method.getParameterTypes())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static Tags serviceTags(Method method, Class<?> targetClass) {
+        var serviceInterface = findServiceInterface(method, targetClass);
+        var service = serviceInterface != null ? serviceInterface.getSimpleName() : targetClass.getSimpleName();
+        return Tags.of("service", service, "method", method.getName());
+    }
+
+    /**
+     * Meters of one service method, registered on its first call.
+     */
+    private record Meters(Timer success, Timer error, DistributionSummary statements, DistributionSummary rows) {
+
+        static Meters register(MeterRegistry meterRegistry, Tags tags) {
+            return new Meters(
+                    timer(meterRegistry, tags, "success"),
+                    timer(meterRegistry, tags, "error"),
+                    DistributionSummary.builder("bakery.service.statements")
+                            .description("JDBC statements prepared per service call")
+                            .tags(tags)
+                            .publishPercentiles(PERCENTILES)
+                            .register(meterRegistry),
+                    DistributionSummary.builder("bakery.service.rows")
+                            .description("Rows fetched per service call")
+                            .tags(tags)
+                            .publishPercentiles(PERCENTILES)
+                            .register(meterRegistry));
+        }
+
+        private static Timer timer(MeterRegistry meterRegistry, Tags tags, String outcome) {
+            return Timer.builder("bakery.service.calls")
+                    .description("Service method latency")
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Service call instrumentation for the Bakery application.
+ */
+@org.springframework.lang.NonNullApi
+package org.vaadin.bakery.jpaservice.metrics;
@@ -0,0 +1,85 @@
+package org.vaadin.bakery.jpaservice.security;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.vaadin.bakery.uimodel.data.UserDetail;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps the signed-in user's {@link UserDetail} in the HTTP session, so building a layout does not
+ * query the user row again.
+ * <p>
+ * Every snapshot is stamped with a per-email generation. {@link #invalidate(String)} bumps the
+ * generation, which makes all sessions of that user reload on their next access; it does so
+ * immediately and again when the surrounding transaction completes, so a reload racing the write
+ * is not kept. Outside an HTTP request (e.g. push or background threads) nothing is cached.
+ */
+@Component
+public class CurrentUserCache {
+
+    private static final String SESSION_ATTRIBUTE = CurrentUserCache.class.getName();
+
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached user for the email, loading and caching it if the session has no current snapshot.
+     *
+     * @param email signed-in user's email
+     * @param loader loads the user by email
+     */
+    public Optional<UserDetail> get(String email, Function<String, Optional<UserDetail>> loader) {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.apply(email);
+        }
+
+        var key = key(email);
+        var generation = generations.getOrDefault(key, 0L);
+        if (attributes.getAttribute(SESSION_ATTRIBUTE, RequestAttributes.SCOPE_SESSION) instanceof Snapshot snapshot
+                && snapshot.key().equals(key) && snapshot.generation() == generation) {
+            return Optional.of(snapshot.user());
+        }
+
+        var user = loader.apply(email);
+        user.ifPresentOrElse(
+                u -> attributes.setAttribute(SESSION_ATTRIBUTE, new Snapshot(key, generation, u),
+                        RequestAttributes.SCOPE_SESSION),
+                () -> attributes.removeAttribute(SESSION_ATTRIBUTE, RequestAttributes.SCOPE_SESSION));
+        return user;
+    }
+
+    /**
+     * Drops every session's snapshot of the user with this email. Call when the user row changes.
+     */
+    public void invalidate(String email) {
+        var key = key(email);
+        bump(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(key);
+                }
+            });
+        }
+    }
+
+    private void bump(String key) {
+        generations.merge(key, 1L, Long::sum);
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(String key, long generation, UserDetail user) {
+    }
+}
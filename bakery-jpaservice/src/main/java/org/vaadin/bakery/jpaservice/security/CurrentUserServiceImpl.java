@@ -3,6 +3,7 @@ package org.vaadin.bakery.jpaservice.security;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.vaadin.bakery.jpaclient.repository.UserRepository;
 import org.vaadin.bakery.jpaservice.mapper.UserMapper;
@@ -14,16 +15,20 @@ import java.util.Optional;
 
 /**
  * Implementation of CurrentUserService that accesses the authenticated user from Spring Security.
+ * The user's details are cached in the session by {@link CurrentUserCache}.
  */
 @Service
 public class CurrentUserServiceImpl implements CurrentUserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final CurrentUserCache currentUserCache;
 
-    public CurrentUserServiceImpl(UserRepository userRepository, UserMapper userMapper) {
+    public CurrentUserServiceImpl(UserRepository userRepository, UserMapper userMapper,
+                                  CurrentUserCache currentUserCache) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.currentUserCache = currentUserCache;
     }
 
     @Override
@@ -35,11 +40,13 @@ public class CurrentUserServiceImpl implements CurrentUserService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<UserDetail> getCurrentUser() {
+        // Callers may modify the returned model, so hand out copies of the cached one
         return getCurrentUserEmail()
-                .flatMap(userRepository::findByEmailIgnoreCase)
-                .map(userMapper::toDetail);
+                .flatMap(email -> currentUserCache.get(email,
+                        e -> userRepository.findSummaryByEmailIgnoreCase(e).map(userMapper::toDetail)))
+                .map(userMapper::copyDetail);
     }
 
     @Override
@@ -13,6 +13,7 @@ import java.util.List;
 
 /**
  * Spring Security UserDetailsService implementation that loads users from the database.
+ * Only the credentials and role are read, never the profile or photo.
  */
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -26,14 +27,14 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        var userEntity = userRepository.findByEmailIgnoreCase(email)
+        var credentials = userRepository.findCredentialsByEmailIgnoreCase(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
-        var authority = new SimpleGrantedAuthority("ROLE_" + userEntity.getRole().name());
+        var authority = new SimpleGrantedAuthority("ROLE_" + credentials.getRole().name());
 
         return new User(
-                userEntity.getEmail(),
-                userEntity.getPasswordHash(),
+                credentials.getEmail(),
+                credentials.getPasswordHash(),
                 true,
                 true,
                 true,
@@ -0,0 +1,96 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.vaadin.bakery.service.OrderService;
+import org.vaadin.bakery.uimodel.data.OrderDetail;
+import org.vaadin.bakery.uimodel.data.OrderItemDetail;
+import org.vaadin.bakery.uimodel.type.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Orders for the same new phone number created at the same time must all succeed and share one customer.
+ */
+@SpringBootTest
+class JpaOrderServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int NUMBERS = 10;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentOrdersForNewNumberCreateOneCustomer() throws Exception {
+        try (var executor = Executors.newFixedThreadPool(THREADS)) {
+            for (var number = 0; number < NUMBERS; number++) {
+                var phone = "+1 (917) 555-" + String.format("%04d", number);
+                var start = new CountDownLatch(1);
+                var results = new ArrayList<Future<OrderDetail>>();
+                for (var thread = 0; thread < THREADS; thread++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return orderService.create(newCustomerOrder(phone));
+                    }));
+                }
+                start.countDown();
+
+                var newCustomersCreated = 0;
+                for (var result : results) {
+                    if (result.get(30, TimeUnit.SECONDS).isNewCustomerCreated()) {
+                        newCustomersCreated++;
+                    }
+                }
+                assertThat(newCustomersCreated).as("orders reporting a new customer for %s", phone).isEqualTo(1);
+
+                var digits = "1917555" + String.format("%04d", number);
+                assertThat(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM customer WHERE phone_digits = ?", Long.class, digits))
+                        .as("customers for %s", phone).isEqualTo(1L);
+                assertThat(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM customer_order o JOIN customer c ON c.id = o.customer_id " +
+                        "WHERE c.phone_digits = ?", Long.class, digits))
+                        .as("orders for %s", phone).isEqualTo((long) THREADS);
+                assertThat(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM customer_phone_suffix s JOIN customer c ON c.id = s.customer_id " +
+                        "WHERE c.phone_digits = ?", Long.class, digits))
+                        .as("phone suffixes for %s", phone).isEqualTo((long) digits.length());
+            }
+        }
+    }
+
+    private static OrderDetail newCustomerOrder(String phone) {
+        var order = new OrderDetail();
+        order.setStatus(OrderStatus.NEW);
+        order.setCustomerName("Customer " + phone);
+        order.setCustomerPhone(phone);
+        order.setLocationId(1L);
+        order.setDueDate(LocalDate.now().plusDays(1));
+        order.setDueTime(LocalTime.of(10, 0));
+        for (var productId = 1L; productId <= 3; productId++) {
+            var item = new OrderItemDetail();
+            item.setProductId(productId);
+            item.setQuantity(1);
+            item.setUnitPrice(new BigDecimal("3.50"));
+            item.setLineTotal(new BigDecimal("3.50"));
+            order.getItems().add(item);
+        }
+        order.setTotal(new BigDecimal("10.50"));
+        return order;
+    }
+}
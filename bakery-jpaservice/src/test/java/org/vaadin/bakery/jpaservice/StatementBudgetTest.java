@@ -0,0 +1,118 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.vaadin.bakery.jpaclient.config.StatementCounter;
+import org.vaadin.bakery.service.DashboardService;
+import org.vaadin.bakery.service.OrderService;
+import org.vaadin.bakery.service.OrderService.OrderFilter;
+import org.vaadin.bakery.uimodel.data.OrderDetail;
+import org.vaadin.bakery.uimodel.data.OrderItemDetail;
+import org.vaadin.bakery.uimodel.type.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement budgets of the storefront list, order detail and dashboard paths. The budgets do not depend on
+ * the number of orders or items, so an N+1 regression fails here.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementBudgetTest {
+
+    private static final int ORDERS_PER_DAY = 5;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    private final List<Long> orderIds = new ArrayList<>();
+
+    @BeforeAll
+    void createOrders() {
+        var today = LocalDate.now();
+        for (var day = 0; day < 2; day++) {
+            for (var i = 0; i < ORDERS_PER_DAY; i++) {
+                orderIds.add(orderService.create(order(today.plusDays(day), LocalTime.of(18, i * 10))).getId());
+            }
+        }
+    }
+
+    @Test
+    void upcomingPage() {
+        var page = withinBudget(2, () -> orderService.listUpcoming(null, 20));
+        assertThat(page).hasSizeGreaterThanOrEqualTo(2 * ORDERS_PER_DAY);
+        assertThat(page).allSatisfy(order -> assertThat(order.getItems()).isNotEmpty());
+    }
+
+    @Test
+    void filteredPage() {
+        var today = LocalDate.now();
+        var filter = new OrderFilter(today, today.plusDays(7), Set.of(), null, "");
+        var page = withinBudget(2, () -> orderService.listPage(filter, null, 20));
+        assertThat(page).hasSizeGreaterThanOrEqualTo(2 * ORDERS_PER_DAY);
+    }
+
+    @Test
+    void orderDetail() {
+        var detail = withinBudget(1, () -> orderService.get(orderIds.getFirst()));
+        assertThat(detail).hasValueSatisfying(order -> assertThat(order.getItems()).hasSize(ITEMS_PER_ORDER));
+    }
+
+    @Test
+    void dashboardHeadlineKpis() {
+        var kpis = withinBudget(1, () -> dashboardService.getHeadlineKpis());
+        assertThat(kpis.tomorrowCount()).isGreaterThanOrEqualTo(ORDERS_PER_DAY);
+    }
+
+    @Test
+    void dashboardUpcomingOrders() {
+        var orders = withinBudget(2, () -> dashboardService.getUpcomingOrders(ORDERS_PER_DAY));
+        assertThat(orders).hasSize(ORDERS_PER_DAY);
+    }
+
+    /**
+     * Runs the call within the budget, and checks that statements were counted at all, so that a missing
+     * inspector registration cannot make the budgets pass.
+     */
+    private static <T> T withinBudget(int budget, Supplier<T> call) {
+        var before = StatementCounter.count();
+        var result = StatementCounter.withBudget(budget, call);
+        assertThat(StatementCounter.count() - before).as("statements counted").isPositive();
+        return result;
+    }
+
+    private static OrderDetail order(LocalDate dueDate, LocalTime dueTime) {
+        var order = new OrderDetail();
+        order.setStatus(OrderStatus.NEW);
+        order.setCustomerName("Budget Customer");
+        order.setCustomerPhone("+1 (646) 555-0100");
+        order.setLocationId(1L);
+        order.setDueDate(dueDate);
+        order.setDueTime(dueTime);
+        for (var productId = 1L; productId <= ITEMS_PER_ORDER; productId++) {
+            var item = new OrderItemDetail();
+            item.setProductId(productId);
+            item.setQuantity(2);
+            item.setUnitPrice(new BigDecimal("3.50"));
+            item.setLineTotal(new BigDecimal("7.00"));
+            order.getItems().add(item);
+        }
+        order.setTotal(new BigDecimal("21.00"));
+        return order;
+    }
+}
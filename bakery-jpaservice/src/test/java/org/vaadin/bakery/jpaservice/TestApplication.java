@@ -0,0 +1,24 @@
+package org.vaadin.bakery.jpaservice;
+
+import org.springframework.beans.factory.config.CustomScopeConfigurer;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.support.SimpleThreadScope;
+
+/**
+ * Headless Spring context with the JPA repositories, services and mappers over an in-memory H2 database
+ * seeded from the test {@code data.sql}.
+ */
+@SpringBootApplication(scanBasePackages = {"org.vaadin.bakery.jpaclient", "org.vaadin.bakery.jpaservice"})
+class TestApplication {
+
+    /**
+     * Session-scoped services (user timezone and location) get one instance per test thread.
+     */
+    @Bean
+    static CustomScopeConfigurer sessionScopeConfigurer() {
+        var configurer = new CustomScopeConfigurer();
+        configurer.addScope("session", new SimpleThreadScope());
+        return configurer;
+    }
+}
@@ -0,0 +1,13 @@
+-- Reference data for the service tests; tests create their own customers and orders
+
+INSERT INTO location (id, version, name, address, timezone, default_country_code, default_area_code, active, sort_order, created_at) VALUES
+(1, 0, 'Test Store', '1 Test Street', 'America/New_York', '1', '212', true, 1, CURRENT_TIMESTAMP);
+
+INSERT INTO product (id, version, name, description, size, price, available, created_at) VALUES
+(1, 0, 'Croissant', 'Buttery, flaky French pastry', 'Individual', 3.50, true, CURRENT_TIMESTAMP),
+(2, 0, 'Baguette', 'Classic French bread', 'Individual', 4.00, true, CURRENT_TIMESTAMP),
+(3, 0, 'Apple Pie', 'Traditional apple pie', 'Large', 25.00, true, CURRENT_TIMESTAMP);
+
+-- Generated IDs continue above the seeded ones; the pooled ID sequence hands out
+-- the 50 values up to the one returned by the sequence (see AbstractEntity)
+ALTER SEQUENCE entity_id_seq RESTART WITH 100;
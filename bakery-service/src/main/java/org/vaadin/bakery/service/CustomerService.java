@@ -13,14 +13,26 @@ public interface CustomerService {
     List<CustomerSummary> search(String query);
 
     /**
-     * Search customers by partial phone number match.
-     * Non-digit characters are ignored in the comparison.
+     * Search customers by partial phone number match, returning the best 20 matches.
+     * Non-digit characters are ignored in the comparison; fewer than 3 digits match nothing.
      *
      * @param phoneDigits partial phone number (digits only)
-     * @return matching customers
+     * @return matching customers, best matches first
      */
     List<CustomerSummary> searchByPhone(String phoneDigits);
 
+    /**
+     * Search active customers by partial phone number match, one page at a time.
+     * Numbers starting with the digits rank first, then earlier matches within the number, then by name.
+     * Non-digit characters are ignored in the comparison; fewer than 3 digits match nothing.
+     *
+     * @param phoneDigits partial phone number
+     * @param offset index of the first match to return
+     * @param limit maximum number of matches to return
+     * @return matching customers, best matches first
+     */
+    List<CustomerSummary> searchByPhone(String phoneDigits, int offset, int limit);
+
     Optional<CustomerSummary> getByPhoneNumber(String phoneNumber);
 
     CustomerSummary create(CustomerSummary customer);
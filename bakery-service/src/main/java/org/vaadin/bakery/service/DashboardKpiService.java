@@ -0,0 +1,60 @@
+package org.vaadin.bakery.service;
+
+import org.springframework.lang.Nullable;
+import org.vaadin.bakery.service.DashboardService.KpiWithDelta;
+import org.vaadin.bakery.uimodel.data.OrderDashboard;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for the dashboard KPIs shared by all sessions.
+ * <p>
+ * The figures are computed once per refresh interval for the whole application, not per dashboard,
+ * and handed out as an immutable snapshot.
+ */
+public interface DashboardKpiService {
+
+    /**
+     * Latest snapshot, without waiting for the database.
+     *
+     * @return the last successfully computed snapshot, or empty if none has been computed yet
+     */
+    Optional<KpiSnapshot> getSnapshot();
+
+    /**
+     * Registers a listener for new snapshots. While there are listeners, the snapshot is refreshed every
+     * interval; a listener registered when the snapshot is missing or stale triggers a refresh right away.
+     * Listeners are called on a background thread and must not block.
+     *
+     * @param listener the listener to call with every new snapshot
+     * @return subscription to cancel when the listener is no longer needed
+     */
+    Subscription subscribe(Consumer<KpiSnapshot> listener);
+
+    /**
+     * Dashboard KPIs at one point in time. The same instance is shown by every session, so treat the
+     * upcoming orders as read-only.
+     */
+    record KpiSnapshot(
+            Instant computedAt,
+            long remainingTodayCount,
+            @Nullable LocalTime nextPickupTime,
+            long newOrdersCount,
+            @Nullable LocalDateTime lastNewOrderTime,
+            long tomorrowCount,
+            @Nullable LocalTime firstPickupTimeTomorrow,
+            long unavailableProductsCount,
+            KpiWithDelta monthTotal,
+            KpiWithDelta yearTotal,
+            List<OrderDashboard> upcomingOrders
+    ) {
+        public KpiSnapshot {
+            upcomingOrders = List.copyOf(upcomingOrders);
+        }
+    }
+}
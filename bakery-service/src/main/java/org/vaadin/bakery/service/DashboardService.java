@@ -1,11 +1,14 @@
 package org.vaadin.bakery.service;
 
+import org.springframework.lang.Nullable;
 import org.vaadin.bakery.uimodel.data.OrderDashboard;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Service interface for dashboard data and KPI operations.
@@ -13,39 +16,9 @@ import java.util.Optional;
 public interface DashboardService {
 
     /**
-     * Count of remaining orders for today (excluding completed/cancelled).
+     * Headline KPIs, all computed in one database round trip.
      */
-    long getRemainingTodayCount();
-
-    /**
-     * Next pickup time for today.
-     */
-    Optional<LocalTime> getNextPickupTime();
-
-    /**
-     * Count of new orders (NEW status).
-     */
-    long getNewOrdersCount();
-
-    /**
-     * Timestamp of the most recent new order.
-     */
-    Optional<java.time.LocalDateTime> getLastNewOrderTime();
-
-    /**
-     * Count of orders due tomorrow.
-     */
-    long getTomorrowCount();
-
-    /**
-     * First pickup time tomorrow.
-     */
-    Optional<LocalTime> getFirstPickupTimeTomorrow();
-
-    /**
-     * Count of unavailable products.
-     */
-    long getUnavailableProductsCount();
+    HeadlineKpis getHeadlineKpis();
 
     /**
      * Upcoming orders for display widget.
@@ -63,7 +36,20 @@ public interface DashboardService {
     Map<Integer, Long> getYearlyPickupData();
 
     /**
-     * Product breakdown for current month (product name -> count).
+     * Daily pickup counts for an inclusive date range (date -> count).
+     * Every day in the range is present, in ascending order; days without pickups map to zero.
+     */
+    Map<LocalDate, Long> getDailyPickupSeries(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Monthly pickup counts for an inclusive month range (month -> count).
+     * Every month in the range is present, in ascending order; months without pickups map to zero.
+     */
+    Map<YearMonth, Long> getMonthlyPickupSeries(YearMonth startMonth, YearMonth endMonth);
+
+    /**
+     * Product breakdown for current month (product name -> quantity ordered), largest first.
+     * Cancelled orders are not counted.
      */
     Map<String, Long> getProductBreakdown();
 
@@ -82,6 +68,28 @@ public interface DashboardService {
      */
     KpiWithDelta getYearTotal();
 
+    /**
+     * Headline KPIs for today and tomorrow. Picked up and cancelled orders do not count as remaining or
+     * as pickups.
+     *
+     * @param remainingTodayCount orders due today that are still to be picked up
+     * @param nextPickupTime earliest of their pickup times after now, or null if there is none
+     * @param newOrdersCount orders in status NEW
+     * @param lastNewOrderTime when the latest NEW order was created, or null if there is none
+     * @param tomorrowCount orders due tomorrow
+     * @param firstPickupTimeTomorrow earliest pickup time tomorrow, or null if there is none
+     * @param unavailableProductsCount products currently not available
+     */
+    record HeadlineKpis(
+            long remainingTodayCount,
+            @Nullable LocalTime nextPickupTime,
+            long newOrdersCount,
+            @Nullable LocalDateTime lastNewOrderTime,
+            long tomorrowCount,
+            @Nullable LocalTime firstPickupTimeTomorrow,
+            long unavailableProductsCount
+    ) {}
+
     /**
      * KPI value with comparison deltas.
      */
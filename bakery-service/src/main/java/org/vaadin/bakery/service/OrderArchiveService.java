@@ -0,0 +1,22 @@
+package org.vaadin.bakery.service;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for moving old picked up and cancelled orders out of the live order tables.
+ * <p>
+ * Archived orders keep their IDs. Order lists by customer, the daily summary and production plan rebuilds,
+ * the CSV export and the status duration analytics read them together with the live orders; the storefront,
+ * the dashboard and the order detail only see live orders.
+ */
+public interface OrderArchiveService {
+
+    /**
+     * Moves every picked up or cancelled order due before the cutoff, with its items, to the archive,
+     * one chunk per transaction.
+     *
+     * @param cutoff first due date to keep in the live tables
+     * @return number of orders archived
+     */
+    long archiveBefore(LocalDate cutoff);
+}
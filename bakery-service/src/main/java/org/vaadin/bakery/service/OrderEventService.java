@@ -0,0 +1,43 @@
+package org.vaadin.bakery.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for observing order changes, wherever in the application they are made.
+ */
+public interface OrderEventService {
+
+    /**
+     * Registers a listener for order changes. It is called once per change after the change has been
+     * committed, on a background thread shared by all listeners, so it must not block. A bulk change
+     * of many orders is delivered as one change.
+     *
+     * @param listener the listener to call
+     * @return subscription to cancel when the listener is no longer needed
+     */
+    Subscription subscribe(Consumer<OrderChange> listener);
+
+    /**
+     * A committed change of one or more orders.
+     */
+    record OrderChange(List<Long> orderIds, ChangeType type) {
+
+        public OrderChange {
+            orderIds = List.copyOf(orderIds);
+        }
+
+        public static OrderChange of(Long orderId, ChangeType type) {
+            return new OrderChange(List.of(orderId), type);
+        }
+    }
+
+    enum ChangeType {
+        CREATED,
+        UPDATED,
+        /**
+         * Moved to the archive, so no longer among the live orders.
+         */
+        ARCHIVED
+    }
+}
@@ -0,0 +1,56 @@
+package org.vaadin.bakery.service;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for exporting orders, e.g. for accounting and reporting spreadsheets.
+ */
+public interface OrderExportService {
+
+    /**
+     * Columns of the exported CSV, in order.
+     */
+    List<String> COLUMNS = List.of("order_id", "status", "due_date", "due_time", "location",
+            "customer_name", "customer_phone", "paid", "order_total", "product", "size",
+            "quantity", "unit_price", "line_total", "details");
+
+    /**
+     * Counts the order lines an export of the date range would write, for progress display.
+     *
+     * @param startDate first due date, inclusive
+     * @param endDate last due date, inclusive
+     * @return number of order lines
+     */
+    long countLines(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Writes the orders due in the date range as UTF-8 CSV, one line per order line, in due order.
+     * <p>
+     * Rows are streamed from the database to the output, so memory use does not depend on the size
+     * of the range, and a slow reader slows down the export instead of buffering it.
+     *
+     * @param startDate first due date, inclusive
+     * @param endDate last due date, inclusive
+     * @param out where the CSV is written; flushed but not closed
+     * @param progress called periodically with the lines written so far
+     * @return number of order lines written
+     * @throws java.io.UncheckedIOException if writing the output fails
+     * @throws java.util.concurrent.CancellationException if {@code progress} returned false
+     */
+    long exportCsv(LocalDate startDate, LocalDate endDate, OutputStream out, ExportProgress progress);
+
+    /**
+     * Receives export progress.
+     */
+    @FunctionalInterface
+    interface ExportProgress {
+
+        /**
+         * @param linesWritten order lines written so far
+         * @return false to cancel the export
+         */
+        boolean onProgress(long linesWritten);
+    }
+}
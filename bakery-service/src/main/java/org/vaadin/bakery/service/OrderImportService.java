@@ -0,0 +1,58 @@
+package org.vaadin.bakery.service;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Service interface for bulk order import, e.g. wholesale and catering spreadsheets.
+ */
+public interface OrderImportService {
+
+    /**
+     * Columns of the CSV header, in any order; {@code details} may be omitted.
+     */
+    List<String> COLUMNS = List.of("order_ref", "due_date", "due_time", "location",
+            "customer_phone", "customer_name", "product", "quantity", "details");
+
+    /**
+     * Imports orders from CSV, streaming the input so that file size does not affect memory use.
+     * <p>
+     * The first line is a header naming the {@link #COLUMNS}. Every further line is one order line;
+     * consecutive lines with the same {@code order_ref} form one order. Dates and times are ISO
+     * ({@code 2026-05-01}, {@code 14:30}), locations and available products are matched by name
+     * ignoring case, and customers by phone number digits, creating new customers as needed.
+     * An order with any invalid line is rejected as a whole; the other orders are imported.
+     *
+     * @param csv UTF-8 CSV input; not closed
+     * @return counts and the first {@link ImportResult#MAX_REPORTED_ERRORS} line errors
+     * @throws java.io.UncheckedIOException if reading the input fails
+     * @throws IllegalArgumentException if the header is missing or lacks a required column
+     */
+    ImportResult importCsv(InputStream csv);
+
+    /**
+     * Outcome of an import.
+     *
+     * @param ordersImported orders created
+     * @param linesImported order lines created
+     * @param linesRejected lines of rejected orders, including their valid lines
+     * @param errors why lines were rejected, at most {@link #MAX_REPORTED_ERRORS}
+     */
+    record ImportResult(int ordersImported, long linesImported, long linesRejected, List<LineError> errors) {
+
+        public static final int MAX_REPORTED_ERRORS = 100;
+
+        public ImportResult {
+            errors = List.copyOf(errors);
+        }
+    }
+
+    /**
+     * Why one CSV line was rejected.
+     *
+     * @param lineNumber 1-based line number in the file, the header being line 1
+     * @param message what is wrong with the line
+     */
+    record LineError(long lineNumber, String message) {
+    }
+}
@@ -5,20 +5,54 @@ import org.vaadin.bakery.uimodel.data.OrderList;
 import org.vaadin.bakery.uimodel.type.OrderStatus;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service interface for order management operations.
  */
 public interface OrderService {
 
-    List<OrderList> listUpcoming();
+    /**
+     * Lists one page of orders due from today on, with their items, ordered by due date, due time and ID.
+     * The cost grows with the page size, not with how far ahead orders are booked.
+     *
+     * @param after keyset cursor of the last order of the previous page, or null for the first page
+     * @param pageSize maximum number of orders to return
+     * @return the next page; fewer than {@code pageSize} orders means there are no more
+     */
+    List<OrderList> listUpcoming(OrderCursor after, int pageSize);
 
     List<OrderList> listByDateRange(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Lists one page of orders matching the filter, ordered by due date, due time and ID.
+     *
+     * @param filter order filter; all predicates are applied in the database
+     * @param after keyset cursor of the last order of the previous page, or null for the first page
+     * @param pageSize maximum number of orders to return
+     * @return the next page; fewer than {@code pageSize} orders means there are no more
+     */
+    List<OrderList> listPage(OrderFilter filter, OrderCursor after, int pageSize);
+
+    /**
+     * Gets orders as they would appear in {@link #listPage}, used to update single storefront cards.
+     *
+     * @param ids order IDs
+     * @param filter order filter
+     * @return the orders that exist and match the filter, in no particular order
+     */
+    List<OrderList> listMatching(Collection<Long> ids, OrderFilter filter);
+
     List<OrderList> listByStatus(OrderStatus status);
 
+    /**
+     * All orders of a customer, archived ones included, latest due first.
+     */
     List<OrderList> listByCustomer(Long customerId);
 
     Optional<OrderDetail> get(Long id);
@@ -29,6 +63,19 @@ public interface OrderService {
 
     void updateStatus(Long id, OrderStatus newStatus);
 
+    /**
+     * Moves many orders to a new status at once, e.g. marking the morning's orders as baked.
+     * <p>
+     * An order is changed only if it still has the version the caller saw and the workflow allows the
+     * transition ({@link OrderStatus#canChangeTo}); the other orders are reported as conflicts and left
+     * unchanged.
+     *
+     * @param expectedVersions order ID -> version as last seen by the caller
+     * @param newStatus the status to move the orders to
+     * @return the changed orders and the conflicts
+     */
+    BulkStatusResult updateStatuses(Map<Long, Integer> expectedVersions, OrderStatus newStatus);
+
     void markAsPaid(Long id);
 
     long countByStatus(OrderStatus status);
@@ -36,4 +83,52 @@ public interface OrderService {
     long countByDate(LocalDate date);
 
     long countByDateExcludingStatuses(LocalDate date, List<OrderStatus> excludedStatuses);
+
+    /**
+     * Storefront order filter.
+     * Empty statuses, a null location ID and a blank customer name match all orders.
+     */
+    record OrderFilter(
+            LocalDate startDate,
+            LocalDate endDate,
+            Set<OrderStatus> statuses,
+            Long locationId,
+            String customerName
+    ) {}
+
+    /**
+     * Outcome of {@link #updateStatuses}.
+     *
+     * @param updatedIds orders moved to the new status
+     * @param conflicts orders left unchanged, with the reason
+     */
+    record BulkStatusResult(List<Long> updatedIds, List<StatusConflict> conflicts) {
+
+        public BulkStatusResult {
+            updatedIds = List.copyOf(updatedIds);
+            conflicts = List.copyOf(conflicts);
+        }
+    }
+
+    /**
+     * Why one order was left out of a bulk status change.
+     *
+     * @param orderId the order
+     * @param reason what prevented the change
+     */
+    record StatusConflict(Long orderId, String reason) {
+    }
+
+    /**
+     * Keyset pagination cursor on the storefront sort order.
+     */
+    record OrderCursor(
+            LocalDate dueDate,
+            LocalTime dueTime,
+            Long id
+    ) {
+        public static OrderCursor of(OrderList order) {
+            return new OrderCursor(order.getDueDate(), order.getDueTime(), order.getId());
+        }
+    }
 }
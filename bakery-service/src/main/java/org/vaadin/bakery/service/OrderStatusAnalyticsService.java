@@ -0,0 +1,37 @@
+package org.vaadin.bakery.service;
+
+import org.vaadin.bakery.uimodel.type.OrderStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Service interface for analytics over the order status history.
+ */
+public interface OrderStatusAnalyticsService {
+
+    /**
+     * Time orders took from first entering one status to first entering another, per location and product.
+     * For example, {@code VERIFIED} to {@code BAKED} is the production lead time.
+     *
+     * @param from the earlier status
+     * @param to the later status
+     * @param since orders that reached {@code to} at or after this instant are included
+     * @param until orders that reached {@code to} before this instant are included
+     * @return one row per location and product with at least one such order, by location and product name
+     */
+    List<StatusDuration> getTimeBetween(OrderStatus from, OrderStatus to, Instant since, Instant until);
+
+    /**
+     * Time between two statuses for one location and product.
+     *
+     * @param locationName the pickup location
+     * @param productName the product; an order counts once for each product it contains
+     * @param orderCount orders included
+     * @param medianMinutes median minutes between the statuses
+     * @param p90Minutes 90th percentile minutes between the statuses
+     */
+    record StatusDuration(String locationName, String productName, long orderCount,
+                          double medianMinutes, double p90Minutes) {
+    }
+}
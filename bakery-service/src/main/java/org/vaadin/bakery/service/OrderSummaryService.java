@@ -0,0 +1,27 @@
+package org.vaadin.bakery.service;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for maintaining the pre-aggregated daily order summary
+ * that backs the dashboard KPIs.
+ */
+public interface OrderSummaryService {
+
+    /**
+     * Rebuilds the whole summary from the order table, one month at a time.
+     *
+     * @return number of summary rows written
+     */
+    long rebuild();
+
+    /**
+     * Rebuilds (backfills) the summary for an inclusive due date range.
+     * Existing summary rows in the range are replaced.
+     *
+     * @param startDate first due date to rebuild
+     * @param endDate   last due date to rebuild
+     * @return number of summary rows written
+     */
+    long rebuild(LocalDate startDate, LocalDate endDate);
+}
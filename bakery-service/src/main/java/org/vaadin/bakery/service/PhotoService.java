@@ -0,0 +1,53 @@
+package org.vaadin.bakery.service;
+
+import java.util.Optional;
+
+/**
+ * Service interface for reading user and product photos without loading them into list models.
+ */
+public interface PhotoService {
+
+    /**
+     * Gets the content type and version of a photo, without reading the photo itself.
+     *
+     * @param owner kind of entity the photo belongs to
+     * @param id entity ID
+     * @return photo metadata, or empty if the entity does not exist or has no photo
+     */
+    Optional<PhotoInfo> getInfo(PhotoOwner owner, Long id);
+
+    /**
+     * Reads a photo into memory, so that the database connection is released before the caller writes it
+     * to a possibly slow client. Photos are limited to a few MB by the upload fields.
+     *
+     * @param owner kind of entity the photo belongs to
+     * @param id entity ID
+     * @return photo bytes, or empty if there is none
+     */
+    Optional<byte[]> getPhoto(PhotoOwner owner, Long id);
+
+    /**
+     * Gets a square PNG thumbnail of a photo, cropped to fill the square.
+     * Thumbnails are cached per photo version, so repeated grid renders do not decode the photo again.
+     *
+     * @param owner kind of entity the photo belongs to
+     * @param id entity ID
+     * @param size edge length in pixels
+     * @return PNG bytes, or empty if there is no photo or it is not a readable image
+     */
+    Optional<byte[]> getThumbnail(PhotoOwner owner, Long id, int size);
+
+    /**
+     * Kind of entity a photo belongs to.
+     */
+    enum PhotoOwner {
+        USER,
+        PRODUCT
+    }
+
+    /**
+     * Metadata of a stored photo. The version changes whenever the owning entity is updated.
+     */
+    record PhotoInfo(String contentType, int version) {
+    }
+}
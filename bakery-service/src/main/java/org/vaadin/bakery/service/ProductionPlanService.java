@@ -0,0 +1,52 @@
+package org.vaadin.bakery.service;
+
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for the bakers' production plan: how much of each product is due per day,
+ * pickup hour and location, over all orders that are not cancelled.
+ */
+public interface ProductionPlanService {
+
+    /**
+     * The plan of one day.
+     *
+     * @param date the due date
+     * @param locationId the pickup location, or null for all locations
+     * @return the lines with a quantity, by pickup hour, location and product
+     */
+    List<PlanLine> getPlan(LocalDate date, @Nullable Long locationId);
+
+    /**
+     * Rebuilds the whole plan from the order items, one month at a time.
+     *
+     * @return number of plan rows written
+     */
+    long rebuild();
+
+    /**
+     * Rebuilds (backfills) the plan for an inclusive due date range.
+     * Existing plan rows in the range are replaced.
+     *
+     * @param startDate first due date to rebuild
+     * @param endDate   last due date to rebuild
+     * @return number of plan rows written
+     */
+    long rebuild(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Quantity of one product due in one pickup hour at one location.
+     *
+     * @param pickupHour hour of the day the orders are picked up, 0-23
+     * @param locationName the pickup location
+     * @param productName the product
+     * @param productSize the product size, if any
+     * @param quantity items to produce
+     */
+    record PlanLine(int pickupHour, String locationName, String productName, @Nullable String productSize,
+                    long quantity) {
+    }
+}
@@ -0,0 +1,10 @@
+package org.vaadin.bakery.service;
+
+/**
+ * Handle for removing a listener registered with a service.
+ */
+@FunctionalInterface
+public interface Subscription {
+
+    void cancel();
+}
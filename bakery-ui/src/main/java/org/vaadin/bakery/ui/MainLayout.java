@@ -44,7 +44,6 @@ import org.vaadin.bakery.service.ProductService;
 import org.vaadin.bakery.service.UserLocationService;
 import org.vaadin.bakery.service.UserTimezoneService;
 import org.vaadin.bakery.ui.view.storefront.EditOrderDialog;
-import org.vaadin.bakery.ui.view.storefront.StorefrontView;
 import org.vaadin.bakery.uimodel.data.LocationSummary;
 import org.vaadin.bakery.uimodel.data.UserDetail;
 
@@ -512,16 +511,9 @@ public class MainLayout extends AppLayout implements RouterLayout, AfterNavigati
     private void openNewOrderDialog() {
         var dialog = new EditOrderDialog(orderService, locationService, customerService, userLocationService);
         dialog.setAvailableProducts(productService.listAvailable());
-        dialog.addSaveListener(_ -> refreshCurrentViewIfNeeded());
         dialog.open();
     }
 
-    private void refreshCurrentViewIfNeeded() {
-        if (getContent() instanceof StorefrontView view) {
-            view.refresh();
-        }
-    }
-
     @Override
     public void afterNavigation(AfterNavigationEvent event) {
         var path = normalizePathForLookup(event.getLocation().getPath());
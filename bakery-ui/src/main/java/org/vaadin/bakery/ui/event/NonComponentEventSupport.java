@@ -2,21 +2,23 @@ package org.vaadin.bakery.ui.event;
 
 import com.vaadin.flow.shared.Registration;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 /**
  * Helper class that provides event listener management for {@link NonComponent} implementations.
  * Use via composition to add event support to classes that don't extend
  * {@link com.vaadin.flow.component.Component}.
+ * <p>
+ * Listeners may be added, removed and fired from different threads, e.g. a push callback.
  *
  * @param <N> the type of the event source
  */
 public class NonComponentEventSupport<N extends NonComponent> {
-    private final Map<Class<?>, List<Consumer<?>>> listeners = new HashMap<>();
+    private final Map<Class<?>, List<Consumer<?>>> listeners = new ConcurrentHashMap<>();
 
     /**
      * Adds a listener for events of the given type.
@@ -27,7 +29,7 @@ public class NonComponentEventSupport<N extends NonComponent> {
      * @return a registration that can be used to remove the listener
      */
     public <E extends NonComponentEvent<N>> Registration addListener(Class<E> eventType, Consumer<E> listener) {
-        listeners.computeIfAbsent(eventType, k -> new ArrayList<>()).add(listener);
+        listeners.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>()).add(listener);
         return () -> {
             var list = listeners.get(eventType);
             if (list != null) {
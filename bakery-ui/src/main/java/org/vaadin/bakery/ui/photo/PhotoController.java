@@ -0,0 +1,134 @@
+package org.vaadin.bakery.ui.photo;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.vaadin.bakery.service.PhotoService;
+import org.vaadin.bakery.service.PhotoService.PhotoOwner;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Serves user and product photos at {@code photos/{users|products}/{id}}, optionally as a square thumbnail.
+ * <p>
+ * Responses carry an ETag derived from the owning entity's version, so revalidation costs one small
+ * query and no BLOB read. URLs built by {@link #url} include the version; such a response can never
+ * change and is cached by the browser for a year.
+ * <p>
+ * Originals are served with their stored content type only if it is a raster image type; anything else,
+ * such as HTML or SVG uploaded as a photo, is sent as a download so it cannot run script in the app's origin.
+ */
+@RestController
+public class PhotoController {
+
+    private static final String PATH = "photos";
+
+    private static final int MIN_THUMBNAIL_SIZE = 16;
+    private static final int MAX_THUMBNAIL_SIZE = 512;
+
+    private static final Set<String> IMAGE_CONTENT_TYPES = Set.of(
+            "image/png", "image/jpeg", "image/gif", "image/webp", "image/bmp");
+
+    private final PhotoService photoService;
+
+    public PhotoController(PhotoService photoService) {
+        this.photoService = photoService;
+    }
+
+    /**
+     * Builds the relative URL of a photo.
+     *
+     * @param owner kind of entity the photo belongs to
+     * @param id entity ID
+     * @param version entity version, used to make the URL change whenever the photo may have changed
+     * @param size thumbnail edge length in pixels, or null for the original photo
+     */
+    public static String url(PhotoOwner owner, Long id, Integer version, @Nullable Integer size) {
+        var url = PATH + "/" + segment(owner) + "/" + id + "?v=" + version;
+        return size != null ? url + "&size=" + size : url;
+    }
+
+    @GetMapping(PATH + "/{owner}/{id}")
+    public void photo(@PathVariable String owner, @PathVariable Long id,
+                      @RequestParam(name = "v", required = false) Integer requestedVersion,
+                      @RequestParam(required = false) Integer size,
+                      WebRequest request, HttpServletResponse response) throws IOException {
+        var photoOwner = owner(owner);
+        if (photoOwner == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (size != null && (size < MIN_THUMBNAIL_SIZE || size > MAX_THUMBNAIL_SIZE)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Thumbnail size must be between "
+                    + MIN_THUMBNAIL_SIZE + " and " + MAX_THUMBNAIL_SIZE);
+            return;
+        }
+
+        var info = photoService.getInfo(photoOwner, id).orElse(null);
+        if (info == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        var cacheControl = Integer.valueOf(info.version()).equals(requestedVersion)
+                ? CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable()
+                : CacheControl.noCache().cachePrivate();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        var etag = "\"" + info.version() + (size != null ? "-" + size : "") + "\"";
+        if (request.checkNotModified(etag)) {
+            return;
+        }
+
+        if (size != null) {
+            var thumbnail = photoService.getThumbnail(photoOwner, id, size).orElse(null);
+            if (thumbnail != null) {
+                response.setContentType("image/png");
+                response.setContentLength(thumbnail.length);
+                response.getOutputStream().write(thumbnail);
+                return;
+            }
+            // Not decodable as an image; let the browser scale the original instead
+        }
+
+        var photo = photoService.getPhoto(photoOwner, id).orElse(null);
+        if (photo == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setContentType(safeContentType(info.contentType()));
+        response.setContentLength(photo.length);
+        response.getOutputStream().write(photo);
+    }
+
+    private static String safeContentType(String contentType) {
+        var type = contentType.toLowerCase(Locale.ROOT).split(";", 2)[0].strip();
+        return IMAGE_CONTENT_TYPES.contains(type) ? type : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+
+    private static String segment(PhotoOwner owner) {
+        return switch (owner) {
+            case USER -> "users";
+            case PRODUCT -> "products";
+        };
+    }
+
+    @Nullable
+    private static PhotoOwner owner(String segment) {
+        return switch (segment) {
+            case "users" -> PhotoOwner.USER;
+            case "products" -> PhotoOwner.PRODUCT;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * HTTP endpoint serving user and product photos, so that views reference images by URL instead of holding them.
+ */
+@org.springframework.lang.NonNullApi
+package org.vaadin.bakery.ui.photo;
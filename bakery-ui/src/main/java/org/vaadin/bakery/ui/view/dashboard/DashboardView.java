@@ -1,5 +1,7 @@
 package org.vaadin.bakery.ui.view.dashboard;
 
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H3;
 import com.vaadin.flow.component.html.Span;
@@ -11,16 +13,21 @@ import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.PermitAll;
-import org.vaadin.bakery.service.DashboardService;
+import org.vaadin.bakery.service.DashboardKpiService;
+import org.vaadin.bakery.service.DashboardKpiService.KpiSnapshot;
+import org.vaadin.bakery.service.Subscription;
 import org.vaadin.bakery.ui.component.ViewHeader;
 import org.vaadin.lineawesome.LineAwesomeIconUrl;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * Dashboard view showing business analytics and KPIs.
+ * <p>
+ * The KPIs come from the application-wide snapshot and are pushed to the view whenever it is refreshed.
  */
 @Route("dashboard")
 @PageTitle("Dashboard")
@@ -28,7 +35,8 @@ import java.time.format.DateTimeFormatter;
 @PermitAll
 public class DashboardView extends VerticalLayout {
 
-    private final DashboardService dashboardService;
+    private final DashboardKpiService dashboardKpiService;
+    private Subscription kpiSubscription;
 
     // KPI Cards
     private final KpiCard remainingTodayCard;
@@ -43,8 +51,8 @@ public class DashboardView extends VerticalLayout {
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
 
-    public DashboardView(DashboardService dashboardService) {
-        this.dashboardService = dashboardService;
+    public DashboardView(DashboardKpiService dashboardKpiService) {
+        this.dashboardKpiService = dashboardKpiService;
 
         // Component initializations
         addClassName("dashboard-view");
@@ -109,7 +117,24 @@ public class DashboardView extends VerticalLayout {
         setFlexGrow(1, scroller);
 
         // Data loading
-        refreshData();
+        dashboardKpiService.getSnapshot().ifPresentOrElse(this::showSnapshot, this::showLoading);
+    }
+
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        // Show every new snapshot; ignored once the UI is detached
+        var onSnapshot = attachEvent.getUI().accessLater((KpiSnapshot snapshot) -> showSnapshot(snapshot), null);
+        kpiSubscription = dashboardKpiService.subscribe(onSnapshot::accept);
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        super.onDetach(detachEvent);
+        if (kpiSubscription != null) {
+            kpiSubscription.cancel();
+            kpiSubscription = null;
+        }
     }
 
     private Div createChartPlaceholder(String title, String description) {
@@ -146,17 +171,25 @@ public class DashboardView extends VerticalLayout {
         return card;
     }
 
-    private void refreshData() {
+    private void showLoading() {
+        for (var card : List.of(remainingTodayCard, unavailableCard, newOrdersCard,
+                tomorrowCard, monthTotalCard, yearTotalCard)) {
+            card.setValue("\u2014");
+            card.setSubtitle("Loading");
+        }
+    }
+
+    private void showSnapshot(KpiSnapshot snapshot) {
         // Remaining Today
-        var remainingCount = dashboardService.getRemainingTodayCount();
-        remainingTodayCard.setValue(remainingCount);
-        dashboardService.getNextPickupTime().ifPresentOrElse(
-                time -> remainingTodayCard.setSubtitle("Next: " + TIME_FORMATTER.format(time)),
-                () -> remainingTodayCard.setSubtitle("No more pickups")
-        );
+        remainingTodayCard.setValue(snapshot.remainingTodayCount());
+        if (snapshot.nextPickupTime() != null) {
+            remainingTodayCard.setSubtitle("Next: " + TIME_FORMATTER.format(snapshot.nextPickupTime()));
+        } else {
+            remainingTodayCard.setSubtitle("No more pickups");
+        }
 
         // Unavailable Products
-        var unavailableCount = dashboardService.getUnavailableProductsCount();
+        var unavailableCount = snapshot.unavailableProductsCount();
         unavailableCard.setValue(unavailableCount);
         if (unavailableCount > 0) {
             unavailableCard.setSubtitle("Products unavailable");
@@ -165,38 +198,39 @@ public class DashboardView extends VerticalLayout {
         }
 
         // New Orders
-        var newCount = dashboardService.getNewOrdersCount();
-        newOrdersCard.setValue(newCount);
-        dashboardService.getLastNewOrderTime().ifPresentOrElse(
-                time -> newOrdersCard.setSubtitle(formatTimeAgo(time)),
-                () -> newOrdersCard.setSubtitle("No new orders")
-        );
+        newOrdersCard.setValue(snapshot.newOrdersCount());
+        if (snapshot.lastNewOrderTime() != null) {
+            newOrdersCard.setSubtitle(formatTimeAgo(snapshot.lastNewOrderTime()));
+        } else {
+            newOrdersCard.setSubtitle("No new orders");
+        }
 
         // Tomorrow
-        var tomorrowCount = dashboardService.getTomorrowCount();
-        tomorrowCard.setValue(tomorrowCount);
-        dashboardService.getFirstPickupTimeTomorrow().ifPresentOrElse(
-                time -> tomorrowCard.setSubtitle("First: " + TIME_FORMATTER.format(time)),
-                () -> tomorrowCard.setSubtitle("No orders")
-        );
+        tomorrowCard.setValue(snapshot.tomorrowCount());
+        if (snapshot.firstPickupTimeTomorrow() != null) {
+            tomorrowCard.setSubtitle("First: " + TIME_FORMATTER.format(snapshot.firstPickupTimeTomorrow()));
+        } else {
+            tomorrowCard.setSubtitle("No orders");
+        }
 
         // Month Total with deltas
-        var monthTotal = dashboardService.getMonthTotal();
+        var monthTotal = snapshot.monthTotal();
         monthTotalCard.setValue(monthTotal.value());
+        monthTotalCard.setSubtitle("");
         monthTotalCard.clearDeltas();
         monthTotalCard.addDelta("vs prev month", monthTotal.previousPeriodDelta());
         monthTotalCard.addDelta("vs last year", monthTotal.samePeriodLastYearDelta());
 
         // Year Total with deltas
-        var yearTotal = dashboardService.getYearTotal();
+        var yearTotal = snapshot.yearTotal();
         yearTotalCard.setValue(yearTotal.value());
+        yearTotalCard.setSubtitle("");
         yearTotalCard.clearDeltas();
         yearTotalCard.addDelta("vs prev year", yearTotal.previousPeriodDelta());
         yearTotalCard.addDelta("vs same period", yearTotal.samePeriodLastYearDelta());
 
         // Upcoming orders
-        var upcomingOrders = dashboardService.getUpcomingOrders(10);
-        upcomingOrdersPanel.setOrders(upcomingOrders);
+        upcomingOrdersPanel.setOrders(snapshot.upcomingOrders());
     }
 
     private String formatTimeAgo(LocalDateTime time) {
@@ -21,8 +21,10 @@ import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.PermitAll;
 import org.vaadin.bakery.service.CurrentUserService;
+import org.vaadin.bakery.service.PhotoService.PhotoOwner;
 import org.vaadin.bakery.service.UserService;
 import org.vaadin.bakery.ui.component.ViewHeader;
+import org.vaadin.bakery.ui.photo.PhotoController;
 import org.vaadin.bakery.uimodel.data.UserDetail;
 
 import java.io.ByteArrayInputStream;
@@ -203,10 +205,8 @@ public class PreferencesView extends VerticalLayout {
             this.currentUser = user;
             profileAvatar.setName(user.getFirstName() + " " + user.getLastName());
 
-            if (user.getPhoto() != null && user.getPhoto().length > 0) {
-                var resource = new StreamResource("user-photo",
-                        () -> new ByteArrayInputStream(user.getPhoto()));
-                profileAvatar.setImageResource(resource);
+            if (user.isPhotoAvailable()) {
+                profileAvatar.setImage(PhotoController.url(PhotoOwner.USER, user.getId(), user.getVersion(), 200));
             }
         });
     }
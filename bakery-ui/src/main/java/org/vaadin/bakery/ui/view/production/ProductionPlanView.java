@@ -0,0 +1,153 @@
+package org.vaadin.bakery.ui.view.production;
+
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.Menu;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.theme.lumo.LumoUtility;
+import jakarta.annotation.security.RolesAllowed;
+import org.vaadin.bakery.service.LocationService;
+import org.vaadin.bakery.service.OrderEventService;
+import org.vaadin.bakery.service.OrderEventService.OrderChange;
+import org.vaadin.bakery.service.ProductionPlanService;
+import org.vaadin.bakery.service.ProductionPlanService.PlanLine;
+import org.vaadin.bakery.service.Subscription;
+import org.vaadin.bakery.service.UserLocationService;
+import org.vaadin.bakery.ui.component.ViewHeader;
+import org.vaadin.bakery.uimodel.data.LocationSummary;
+import org.vaadin.lineawesome.LineAwesomeIconUrl;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Production plan view for bakers.
+ * Shows how much of each product is due on a day, in total and per pickup hour and location, and
+ * reloads whenever an order changes anywhere in the application.
+ */
+@Route("production")
+@PageTitle("Production Plan")
+@Menu(order = 1.5, icon = LineAwesomeIconUrl.CLIPBOARD_LIST_SOLID)
+@RolesAllowed({"ADMIN", "BAKER"})
+public class ProductionPlanView extends VerticalLayout {
+
+    private final ProductionPlanService productionPlanService;
+    private final OrderEventService orderEventService;
+    private final DatePicker datePicker;
+    private final ComboBox<LocationSummary> locationComboBox;
+    private final Grid<ProductTotal> totalsGrid;
+    private final Grid<PlanLine> hourlyGrid;
+
+    private Subscription orderChangeSubscription;
+
+    public ProductionPlanView(ProductionPlanService productionPlanService, LocationService locationService,
+                              UserLocationService userLocationService, OrderEventService orderEventService) {
+        this.productionPlanService = productionPlanService;
+        this.orderEventService = orderEventService;
+
+        // Component initializations
+        addClassName("production-plan-view");
+        setSizeFull();
+        setPadding(false);
+        setSpacing(false);
+
+        datePicker = new DatePicker(LocalDate.now());
+        datePicker.setAriaLabel("Date");
+        datePicker.addValueChangeListener(_ -> refresh());
+
+        locationComboBox = new ComboBox<>();
+        locationComboBox.setPlaceholder("All locations");
+        locationComboBox.setItems(locationService.listActive());
+        locationComboBox.setItemLabelGenerator(LocationSummary::getName);
+        locationComboBox.setClearButtonVisible(true);
+        locationComboBox.setWidth("220px");
+        locationComboBox.setValue(userLocationService.getCurrentLocation());
+        locationComboBox.addValueChangeListener(_ -> refresh());
+
+        var header = new ViewHeader("Production Plan")
+                .withFilters(datePicker, locationComboBox);
+
+        totalsGrid = new Grid<>();
+        totalsGrid.addThemeVariants(GridVariant.LUMO_COMPACT, GridVariant.LUMO_ROW_STRIPES);
+        totalsGrid.addColumn(ProductTotal::productName).setHeader("Product").setFlexGrow(2);
+        totalsGrid.addColumn(ProductTotal::productSize).setHeader("Size").setFlexGrow(1);
+        totalsGrid.addColumn(ProductTotal::quantity).setHeader("Quantity").setAutoWidth(true).setFlexGrow(0);
+        totalsGrid.setAllRowsVisible(true);
+
+        hourlyGrid = new Grid<>();
+        hourlyGrid.addThemeVariants(GridVariant.LUMO_COMPACT, GridVariant.LUMO_ROW_STRIPES);
+        hourlyGrid.addColumn(line -> "%02d:00–%02d:00".formatted(line.pickupHour(), (line.pickupHour() + 1) % 24))
+                .setHeader("Pickup").setAutoWidth(true).setFlexGrow(0);
+        hourlyGrid.addColumn(PlanLine::locationName).setHeader("Location").setFlexGrow(1);
+        hourlyGrid.addColumn(PlanLine::productName).setHeader("Product").setFlexGrow(2);
+        hourlyGrid.addColumn(PlanLine::productSize).setHeader("Size").setFlexGrow(1);
+        hourlyGrid.addColumn(PlanLine::quantity).setHeader("Quantity").setAutoWidth(true).setFlexGrow(0);
+        hourlyGrid.setSizeFull();
+
+        var content = new Div();
+        content.addClassNames(LumoUtility.Padding.MEDIUM, LumoUtility.BoxSizing.BORDER,
+                LumoUtility.Display.FLEX, LumoUtility.FlexDirection.COLUMN, LumoUtility.Gap.MEDIUM);
+        content.setSizeFull();
+
+        // Layout assembly
+        content.add(new H3("Totals"), totalsGrid, new H3("By pickup hour"), hourlyGrid);
+        add(header, content);
+        setFlexGrow(1, content);
+
+        // Data loading
+        refresh();
+    }
+
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        // The plan rollup is updated with every order change, so reading it again is cheap
+        var onOrderChange = attachEvent.getUI().accessLater((OrderChange _) -> refresh(), null);
+        orderChangeSubscription = orderEventService.subscribe(onOrderChange::accept);
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        super.onDetach(detachEvent);
+        if (orderChangeSubscription != null) {
+            orderChangeSubscription.cancel();
+            orderChangeSubscription = null;
+        }
+    }
+
+    private void refresh() {
+        var date = datePicker.getValue();
+        if (date == null) {
+            totalsGrid.setItems(List.of());
+            hourlyGrid.setItems(List.of());
+            return;
+        }
+        var location = locationComboBox.getValue();
+        var lines = productionPlanService.getPlan(date, location != null ? location.getId() : null);
+
+        var totals = new LinkedHashMap<String, ProductTotal>();
+        for (var line : lines) {
+            var key = line.productName() + "\u0000" + Objects.toString(line.productSize(), "");
+            totals.merge(key, new ProductTotal(line.productName(), line.productSize(), line.quantity()),
+                    (a, b) -> new ProductTotal(a.productName(), a.productSize(), a.quantity() + b.quantity()));
+        }
+        totalsGrid.setItems(totals.values().stream()
+                .sorted(Comparator.comparing(ProductTotal::productName))
+                .toList());
+        hourlyGrid.setItems(lines);
+    }
+
+    private record ProductTotal(String productName, String productSize, long quantity) {
+    }
+}
@@ -24,7 +24,9 @@ import com.vaadin.flow.data.binder.ValidationException;
 import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.LumoUtility;
+import org.vaadin.bakery.service.PhotoService.PhotoOwner;
 import org.vaadin.bakery.service.ProductService;
+import org.vaadin.bakery.ui.photo.PhotoController;
 import org.vaadin.bakery.uimodel.data.ProductSummary;
 
 import java.io.ByteArrayInputStream;
@@ -189,18 +191,23 @@ public class ProductDialog extends Dialog {
     private void updatePhotoPreview() {
         photoContainerDiv.removeAll();
 
-        byte[] photoData = uploadedPhoto != null ? uploadedPhoto : product.getPhoto();
-        if (photoData != null && photoData.length > 0) {
-            var resource = new StreamResource("product-photo",
-                    () -> new ByteArrayInputStream(photoData));
-            var image = new Image(resource, "Product photo");
-            image.setWidthFull();
-            image.setHeightFull();
-            image.getStyle().set("object-fit", "cover");
-            photoContainerDiv.add(image);
+        if (uploadedPhoto != null) {
+            var photoData = uploadedPhoto;
+            addPreviewImage(new Image(new StreamResource("product-photo",
+                    () -> new ByteArrayInputStream(photoData)), "Product photo"));
+        } else if (product.getId() != null && product.isPhotoAvailable()) {
+            addPreviewImage(new Image(PhotoController.url(PhotoOwner.PRODUCT, product.getId(), product.getVersion(),
+                    null), "Product photo"));
         }
     }
 
+    private void addPreviewImage(Image image) {
+        image.setWidthFull();
+        image.setHeightFull();
+        image.getStyle().set("object-fit", "cover");
+        photoContainerDiv.add(image);
+    }
+
     private void save() {
         try {
             binder.writeBean(product);
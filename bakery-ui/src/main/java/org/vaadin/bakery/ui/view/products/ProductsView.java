@@ -13,16 +13,16 @@ import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.RolesAllowed;
 import org.vaadin.bakery.service.CurrentUserService;
+import org.vaadin.bakery.service.PhotoService.PhotoOwner;
 import org.vaadin.bakery.service.ProductService;
 import org.vaadin.bakery.ui.component.ViewHeader;
+import org.vaadin.bakery.ui.photo.PhotoController;
 import org.vaadin.bakery.uimodel.data.ProductSummary;
 import org.vaadin.lineawesome.LineAwesomeIconUrl;
 
-import java.io.ByteArrayInputStream;
 import java.text.NumberFormat;
 import java.util.List;
 import java.util.Locale;
@@ -38,6 +38,11 @@ import java.util.Locale;
 @RolesAllowed({"ADMIN", "BAKER"})
 public class ProductsView extends VerticalLayout {
 
+    /**
+     * Thumbnail edge length in pixels: twice the 40px display size, for high-density screens.
+     */
+    private static final int THUMBNAIL_SIZE = 80;
+
     private final ProductService productService;
     private final Grid<ProductSummary> grid;
     private final TextField searchField;
@@ -114,12 +119,9 @@ public class ProductsView extends VerticalLayout {
     }
 
     private Image createProductImage(ProductSummary product) {
-        if (product.getPhoto() != null && product.getPhoto().length > 0) {
-            var resource = new StreamResource(
-                    "product-" + product.getId(),
-                    () -> new ByteArrayInputStream(product.getPhoto())
-            );
-            var image = new Image(resource, product.getName());
+        if (product.isPhotoAvailable()) {
+            var image = new Image(PhotoController.url(PhotoOwner.PRODUCT, product.getId(), product.getVersion(),
+                    THUMBNAIL_SIZE), product.getName());
             image.setWidth("40px");
             image.setHeight("40px");
             image.addClassNames(LumoUtility.BorderRadius.SMALL);
@@ -516,25 +516,9 @@ public class EditOrderDialog implements NonComponent {
     // ========== Customer Phone Handling ==========
 
     private void configurePhoneComboBoxFiltering() {
-        // Load all customers and filter by phone digits (ignoring punctuation)
-        var allCustomers = customerService.search("");
-
-        // Custom filter that matches phone digits only
-        ComboBox.ItemFilter<CustomerSummary> phoneFilter = (customer, filterText) -> {
-            if (filterText == null || filterText.isBlank()) {
-                return true; // Show all when no filter
-            }
-            var filterDigits = filterText.replaceAll("\\D", "");
-            if (filterDigits.isEmpty()) {
-                return true; // Show all if filter has no digits
-            }
-            var phoneDigits = customer.getPhoneNumber() != null
-                    ? customer.getPhoneNumber().replaceAll("\\D", "")
-                    : "";
-            return phoneDigits.contains(filterDigits);
-        };
-
-        customerPhoneComboBox.setItems(phoneFilter, allCustomers);
+        // Lazy data provider: only the visible page of matches is fetched, filtered and ranked by the service
+        customerPhoneComboBox.setItems(query -> customerService.searchByPhone(
+                query.getFilter().orElse(""), query.getOffset(), query.getLimit()).stream());
     }
 
     private void handleCustomerSelection(CustomerSummary customer) {
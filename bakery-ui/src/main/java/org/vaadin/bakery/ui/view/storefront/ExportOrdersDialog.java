@@ -0,0 +1,157 @@
+package org.vaadin.bakery.ui.view.storefront;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.notification.NotificationVariant;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
+import com.vaadin.flow.server.streams.DownloadEvent;
+import com.vaadin.flow.theme.lumo.LumoUtility;
+import org.vaadin.bakery.service.OrderExportService;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Dialog for exporting the orders of a date range as CSV.
+ * The file is streamed from {@link OrderExportService} while it downloads; progress is pushed back to the dialog.
+ */
+public class ExportOrdersDialog extends Dialog {
+
+    private final OrderExportService orderExportService;
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    private final ProgressBar progressBar;
+    private final Span progressText;
+    private final Button cancelButton;
+
+    // Read by the download handler, which runs outside the UI lock
+    private volatile LocalDate startDate;
+    private volatile LocalDate endDate;
+
+    public ExportOrdersDialog(OrderExportService orderExportService) {
+        this.orderExportService = orderExportService;
+
+        // Component initializations
+        var today = LocalDate.now();
+        startDate = today.minusMonths(1);
+        endDate = today;
+
+        var startPicker = new DatePicker("From", startDate);
+        var endPicker = new DatePicker("To", endDate);
+        startPicker.addValueChangeListener(e -> {
+            startDate = e.getValue();
+            endPicker.setMin(e.getValue());
+        });
+        endPicker.addValueChangeListener(e -> {
+            endDate = e.getValue();
+            startPicker.setMax(e.getValue());
+        });
+        startPicker.setRequired(true);
+        endPicker.setRequired(true);
+
+        var download = new Anchor(this::writeCsv, "");
+        download.getElement().setAttribute("download", true);
+        var downloadButton = new Button("Download CSV", new Icon(VaadinIcon.DOWNLOAD));
+        downloadButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+        download.add(downloadButton);
+
+        progressBar = new ProgressBar();
+        progressBar.setVisible(false);
+        progressText = new Span();
+        progressText.addClassNames(LumoUtility.FontSize.SMALL, LumoUtility.TextColor.SECONDARY);
+
+        cancelButton = new Button("Cancel export", _ -> cancelled.set(true));
+        cancelButton.addThemeVariants(ButtonVariant.LUMO_ERROR, ButtonVariant.LUMO_TERTIARY);
+        cancelButton.setEnabled(false);
+
+        var closeButton = new Button("Close", _ -> {
+            cancelled.set(true);
+            close();
+        });
+
+        // Layout assembly
+        var dates = new HorizontalLayout(startPicker, endPicker);
+        var content = new VerticalLayout(dates, download, progressBar, progressText);
+        content.setPadding(false);
+
+        // Dialog configuration
+        setHeaderTitle("Export Orders");
+        setModal(true);
+        setCloseOnOutsideClick(false);
+        getElement().getThemeList().add("responsive-dialog");
+        setWidth("100%");
+        setMaxWidth("500px");
+        add(content);
+        getFooter().add(cancelButton, closeButton);
+    }
+
+    /**
+     * Streams the CSV into the download response. Runs on the request thread without the UI lock.
+     */
+    private void writeCsv(DownloadEvent event) {
+        var ui = event.getUI();
+        var from = startDate;
+        var to = endDate;
+        if (from == null || to == null || from.isAfter(to)) {
+            ui.access(() -> showFailure("Choose a valid date range"));
+            event.getResponse().setStatus(400);
+            return;
+        }
+
+        cancelled.set(false);
+        var total = orderExportService.countLines(from, to);
+        ui.access(() -> showStarted(total));
+
+        event.setFileName("orders-" + from + "-" + to + ".csv");
+        event.setContentType("text/csv;charset=UTF-8");
+        try {
+            var written = orderExportService.exportCsv(from, to, event.getOutputStream(), lines -> {
+                ui.access(() -> showProgress(lines, total));
+                return !cancelled.get();
+            });
+            ui.access(() -> showFinished(written + " order lines exported"));
+        } catch (CancellationException e) {
+            ui.access(() -> showFinished("Export cancelled"));
+        } catch (UncheckedIOException e) {
+            // The browser closed the download
+            ui.access(() -> showFinished("Export aborted"));
+        }
+    }
+
+    private void showStarted(long total) {
+        progressBar.setIndeterminate(total == 0);
+        progressBar.setMin(0);
+        progressBar.setMax(Math.max(total, 1));
+        progressBar.setValue(0);
+        progressBar.setVisible(true);
+        progressText.setText("0 of " + total + " order lines");
+        cancelButton.setEnabled(true);
+    }
+
+    private void showProgress(long lines, long total) {
+        progressBar.setValue(Math.min(lines, progressBar.getMax()));
+        progressText.setText(lines + " of " + total + " order lines");
+    }
+
+    private void showFinished(String message) {
+        progressBar.setVisible(false);
+        progressText.setText(message);
+        cancelButton.setEnabled(false);
+    }
+
+    private void showFailure(String message) {
+        Notification.show("Export failed: " + message, 5000, Notification.Position.BOTTOM_START)
+                .addThemeVariants(NotificationVariant.LUMO_ERROR);
+    }
+}
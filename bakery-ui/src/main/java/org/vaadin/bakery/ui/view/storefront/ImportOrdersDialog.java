@@ -0,0 +1,110 @@
+package org.vaadin.bakery.ui.view.storefront;
+
+import com.vaadin.flow.component.ComponentEvent;
+import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.html.Paragraph;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.notification.NotificationVariant;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.shared.Registration;
+import com.vaadin.flow.theme.lumo.LumoUtility;
+import org.vaadin.bakery.service.OrderImportService;
+import org.vaadin.bakery.service.OrderImportService.ImportResult;
+import org.vaadin.bakery.service.OrderImportService.LineError;
+
+/**
+ * Dialog for importing orders in bulk from a CSV file.
+ * The file is streamed to {@link OrderImportService} while it uploads; the result is pushed back to the dialog.
+ */
+public class ImportOrdersDialog extends Dialog {
+
+    private final Span summary;
+    private final Grid<LineError> errorsGrid;
+
+    public ImportOrdersDialog(OrderImportService orderImportService) {
+        // Component initializations
+        var instructions = new Paragraph("One line per order line, with the header "
+                + String.join(",", OrderImportService.COLUMNS)
+                + ". Lines with the same order_ref form one order. Dates as 2026-05-01, times as 14:30.");
+        instructions.addClassNames(LumoUtility.FontSize.SMALL, LumoUtility.TextColor.SECONDARY);
+
+        var upload = new Upload(event -> {
+            var ui = event.getUI();
+            try (var csv = event.getInputStream()) {
+                var result = orderImportService.importCsv(csv);
+                ui.access(() -> showResult(result));
+            } catch (IllegalArgumentException e) {
+                ui.access(() -> showFailure(e.getMessage()));
+            }
+        });
+        upload.setAcceptedFileTypes("text/csv", ".csv");
+        upload.setMaxFiles(1);
+        upload.setWidthFull();
+
+        summary = new Span();
+        summary.setVisible(false);
+
+        errorsGrid = new Grid<>();
+        errorsGrid.addColumn(LineError::lineNumber).setHeader("Line").setAutoWidth(true).setFlexGrow(0);
+        errorsGrid.addColumn(LineError::message).setHeader("Error");
+        errorsGrid.addThemeVariants(GridVariant.LUMO_COMPACT);
+        errorsGrid.setHeight("240px");
+        errorsGrid.setVisible(false);
+
+        var closeButton = new Button("Close", e -> close());
+
+        // Layout assembly
+        var content = new VerticalLayout(instructions, upload, summary, errorsGrid);
+        content.setPadding(false);
+
+        // Dialog configuration
+        setHeaderTitle("Import Orders");
+        setModal(true);
+        setCloseOnOutsideClick(false);
+        getElement().getThemeList().add("responsive-dialog");
+        setWidth("100%");
+        setMaxWidth("700px");
+        add(content);
+        getFooter().add(closeButton);
+    }
+
+    private void showResult(ImportResult result) {
+        var text = result.ordersImported() + " orders with " + result.linesImported() + " lines imported";
+        if (result.linesRejected() > 0) {
+            text += ", " + result.linesRejected() + " lines rejected";
+        }
+        summary.setText(text);
+        summary.setVisible(true);
+
+        errorsGrid.setItems(result.errors());
+        errorsGrid.setVisible(!result.errors().isEmpty());
+
+        if (result.ordersImported() > 0) {
+            fireEvent(new ImportEvent(this));
+        }
+    }
+
+    private void showFailure(String message) {
+        summary.setVisible(false);
+        errorsGrid.setVisible(false);
+        Notification.show("Import failed: " + message, 5000, Notification.Position.BOTTOM_START)
+                .addThemeVariants(NotificationVariant.LUMO_ERROR);
+    }
+
+    // Events
+    public static class ImportEvent extends ComponentEvent<ImportOrdersDialog> {
+        public ImportEvent(ImportOrdersDialog source) {
+            super(source, false);
+        }
+    }
+
+    public Registration addImportListener(ComponentEventListener<ImportEvent> listener) {
+        return addListener(ImportEvent.class, listener);
+    }
+}
@@ -2,6 +2,7 @@ package org.vaadin.bakery.ui.view.storefront;
 
 import com.vaadin.flow.component.ComponentEvent;
 import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.checkbox.Checkbox;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.shared.Registration;
@@ -15,6 +16,8 @@ import java.util.Locale;
 
 /**
  * Card component for displaying an order in the storefront view.
+ * <p>
+ * In selection mode a click toggles the card's checkbox instead of opening the order.
  */
 public class OrderCard extends Div {
 
@@ -22,10 +25,19 @@ public class OrderCard extends Div {
     private static final NumberFormat CURRENCY_FORMAT = NumberFormat.getCurrencyInstance(Locale.US);
 
     private final OrderList order;
+    private final Checkbox selectCheckbox;
+    private boolean selectable;
 
     public OrderCard(OrderList order) {
         this.order = order;
 
+        // Clicks go to the card, which toggles the checkbox itself
+        selectCheckbox = new Checkbox();
+        selectCheckbox.getStyle().set("pointer-events", "none");
+        selectCheckbox.setVisible(false);
+        selectCheckbox.addValueChangeListener(e ->
+                fireEvent(new OrderSelectionEvent(this, order, e.getValue())));
+
         addClassName("order-card");
         addClassName("card");
         getStyle()
@@ -86,7 +98,13 @@ public class OrderCard extends Div {
         add(footer);
 
         // Click handler
-        addClickListener(e -> fireEvent(new OrderClickEvent(this, order)));
+        addClickListener(e -> {
+            if (selectable) {
+                selectCheckbox.setValue(!selectCheckbox.getValue());
+            } else {
+                fireEvent(new OrderClickEvent(this, order));
+            }
+        });
     }
 
     private Div createHeader() {
@@ -98,6 +116,12 @@ public class OrderCard extends Div {
         );
 
         var statusBadge = createStatusBadge(order.getStatus());
+        var leading = new Div(selectCheckbox, statusBadge);
+        leading.addClassNames(
+                LumoUtility.Display.FLEX,
+                LumoUtility.AlignItems.CENTER,
+                LumoUtility.Gap.SMALL
+        );
 
         var time = new Span(order.getDueTime() != null ?
                 TIME_FORMATTER.format(order.getDueTime()) : "");
@@ -106,7 +130,7 @@ public class OrderCard extends Div {
                 LumoUtility.TextColor.SECONDARY
         );
 
-        header.add(statusBadge, time);
+        header.add(leading, time);
         return header;
     }
 
@@ -158,6 +182,22 @@ public class OrderCard extends Div {
         return order;
     }
 
+    public void setSelectable(boolean selectable) {
+        this.selectable = selectable;
+        selectCheckbox.setVisible(selectable);
+        if (!selectable) {
+            selectCheckbox.setValue(false);
+        }
+    }
+
+    public boolean isSelected() {
+        return selectCheckbox.getValue();
+    }
+
+    public void setSelected(boolean selected) {
+        selectCheckbox.setValue(selected);
+    }
+
     // Event for order click
     public static class OrderClickEvent extends ComponentEvent<OrderCard> {
         private final OrderList order;
@@ -175,4 +215,28 @@ public class OrderCard extends Div {
     public Registration addOrderClickListener(ComponentEventListener<OrderClickEvent> listener) {
         return addListener(OrderClickEvent.class, listener);
     }
+
+    // Event for selection changes in selection mode
+    public static class OrderSelectionEvent extends ComponentEvent<OrderCard> {
+        private final OrderList order;
+        private final boolean selected;
+
+        public OrderSelectionEvent(OrderCard source, OrderList order, boolean selected) {
+            super(source, false);
+            this.order = order;
+            this.selected = selected;
+        }
+
+        public OrderList getOrder() {
+            return order;
+        }
+
+        public boolean isSelected() {
+            return selected;
+        }
+    }
+
+    public Registration addOrderSelectionListener(ComponentEventListener<OrderSelectionEvent> listener) {
+        return addListener(OrderSelectionEvent.class, listener);
+    }
 }
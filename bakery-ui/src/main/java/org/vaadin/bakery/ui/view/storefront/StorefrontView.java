@@ -1,12 +1,18 @@
 package org.vaadin.bakery.ui.view.storefront;
 
 import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H3;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.Scroller;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextField;
@@ -22,22 +28,40 @@ import jakarta.annotation.security.RolesAllowed;
 import org.vaadin.bakery.ui.MainLayout;
 import org.vaadin.bakery.service.CustomerService;
 import org.vaadin.bakery.service.LocationService;
+import org.vaadin.bakery.service.OrderEventService;
+import org.vaadin.bakery.service.OrderEventService.OrderChange;
+import org.vaadin.bakery.service.OrderExportService;
+import org.vaadin.bakery.service.OrderImportService;
 import org.vaadin.bakery.service.OrderService;
+import org.vaadin.bakery.service.OrderService.OrderCursor;
+import org.vaadin.bakery.service.OrderService.OrderFilter;
 import org.vaadin.bakery.service.ProductService;
+import org.vaadin.bakery.service.Subscription;
 import org.vaadin.bakery.service.UserLocationService;
 import org.vaadin.bakery.ui.component.ViewHeader;
 import org.vaadin.bakery.uimodel.data.OrderList;
+import org.vaadin.bakery.uimodel.type.OrderStatus;
 import org.vaadin.lineawesome.LineAwesomeIconUrl;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
  * Storefront view showing orders as cards grouped by date.
+ * <p>
+ * Order changes made anywhere in the application are pushed to the view, which replaces, inserts or
+ * removes only the affected cards instead of reloading the list.
+ * <p>
+ * In selection mode several orders can be moved to a common next status at once. Each order is checked
+ * against the version shown on its card, so orders changed in the meantime are reported instead of updated.
  */
 @Route("orders")
 @RouteAlias("")
@@ -51,22 +75,56 @@ public class StorefrontView extends VerticalLayout {
     private final CustomerService customerService;
     private final LocationService locationService;
     private final UserLocationService userLocationService;
+    private final OrderEventService orderEventService;
+    private final OrderImportService orderImportService;
+    private final OrderExportService orderExportService;
     private final Div ordersContainer;
+    private final Div emptyMessage;
     private final FilterBar filterBar;
     private final TextField searchField;
+    private final Button loadMoreButton;
+    private final Button selectButton;
+    private final Div bulkBar;
+    private final Span selectionLabel;
+    private final ComboBox<OrderStatus> bulkStatusComboBox;
+    private final Button applyBulkButton;
 
     private Registration locationChangeRegistration;
+    private Subscription orderChangeSubscription;
+
+    // Paging state for the current filter
+    private OrderFilter filter;
+    private OrderCursor lastCursor;
+    private boolean hasMore;
+
+    // Cards shown for the current filter, by order ID and by due date
+    private final Map<Long, OrderCard> cardsById = new HashMap<>();
+    private final TreeMap<LocalDate, Div> cardsContainersByDate = new TreeMap<>();
+
+    // Orders selected for a bulk status change, as shown on their cards
+    private final Map<Long, OrderList> selectedOrders = new LinkedHashMap<>();
+    private boolean selecting;
+    private List<OrderStatus> bulkTargets = List.of();
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("EEEE, MMMM d");
+    private static final int PAGE_SIZE = 50;
+    private static final int MAX_CONFLICTS_SHOWN = 5;
+    private static final Comparator<OrderCursor> CARD_ORDER = Comparator.comparing(OrderCursor::dueDate)
+            .thenComparing(OrderCursor::dueTime)
+            .thenComparing(OrderCursor::id);
 
     public StorefrontView(OrderService orderService, LocationService locationService,
                           ProductService productService, CustomerService customerService,
-                          UserLocationService userLocationService) {
+                          UserLocationService userLocationService, OrderEventService orderEventService,
+                          OrderImportService orderImportService, OrderExportService orderExportService) {
         this.orderService = orderService;
         this.locationService = locationService;
         this.productService = productService;
         this.customerService = customerService;
         this.userLocationService = userLocationService;
+        this.orderEventService = orderEventService;
+        this.orderImportService = orderImportService;
+        this.orderExportService = orderExportService;
 
         // Component initializations
         addClassName("storefront-view");
@@ -82,13 +140,48 @@ public class StorefrontView extends VerticalLayout {
         searchField.addValueChangeListener(e -> refresh());
         searchField.setWidth("300px");
 
+        var importButton = new Button("Import", new Icon(VaadinIcon.UPLOAD), _ -> openImportDialog());
+        importButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+
+        var exportButton = new Button("Export", new Icon(VaadinIcon.DOWNLOAD), _ -> openExportDialog());
+        exportButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+
+        selectButton = new Button("Select", new Icon(VaadinIcon.CHECK_SQUARE_O), _ -> setSelecting(!selecting));
+        selectButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+
         var header = new ViewHeader("Storefront")
-                .withFilters(searchField)
+                .withFilters(searchField, selectButton, importButton, exportButton)
                 .withAction("New order", this::openNewOrderDialog);
 
         filterBar = new FilterBar(locationService.listActive(), userLocationService);
         filterBar.addFilterChangedListener(e -> refresh());
 
+        selectionLabel = new Span();
+        selectionLabel.addClassNames(LumoUtility.FontWeight.SEMIBOLD);
+
+        bulkStatusComboBox = new ComboBox<>();
+        bulkStatusComboBox.setPlaceholder("Change status to");
+        bulkStatusComboBox.setItemLabelGenerator(OrderStatus::getDisplayName);
+        bulkStatusComboBox.addValueChangeListener(_ -> updateBulkBar());
+
+        applyBulkButton = new Button("Apply", _ -> applyBulkStatus());
+        applyBulkButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+
+        var clearSelectionButton = new Button("Clear", _ -> clearSelection());
+        clearSelectionButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+
+        bulkBar = new Div(selectionLabel, bulkStatusComboBox, applyBulkButton, clearSelectionButton);
+        bulkBar.addClassNames(
+                LumoUtility.Display.FLEX,
+                LumoUtility.AlignItems.CENTER,
+                LumoUtility.Gap.MEDIUM,
+                LumoUtility.Padding.Horizontal.MEDIUM,
+                LumoUtility.Padding.Vertical.SMALL,
+                LumoUtility.Background.CONTRAST_5
+        );
+        bulkBar.setWidthFull();
+        bulkBar.setVisible(false);
+
         ordersContainer = new Div();
         ordersContainer.addClassNames(
                 LumoUtility.Display.FLEX,
@@ -97,13 +190,37 @@ public class StorefrontView extends VerticalLayout {
                 LumoUtility.Padding.MEDIUM
         );
 
-        var scroller = new Scroller(ordersContainer);
+        emptyMessage = new Div(new Span("No orders found for the selected criteria"));
+        emptyMessage.addClassNames(
+                LumoUtility.Display.FLEX,
+                LumoUtility.AlignItems.CENTER,
+                LumoUtility.JustifyContent.CENTER,
+                LumoUtility.TextColor.SECONDARY
+        );
+        emptyMessage.getStyle().set("min-height", "200px");
+        emptyMessage.setVisible(false);
+
+        loadMoreButton = new Button("Load more orders", _ -> loadNextPage());
+        loadMoreButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+        loadMoreButton.addClassNames(LumoUtility.Margin.Bottom.MEDIUM, LumoUtility.AlignSelf.CENTER);
+        loadMoreButton.setVisible(false);
+
+        var scrollContent = new Div(emptyMessage, ordersContainer, loadMoreButton);
+        scrollContent.addClassNames(LumoUtility.Display.FLEX, LumoUtility.FlexDirection.COLUMN);
+
+        var scroller = new Scroller(scrollContent);
         scroller.setSizeFull();
         scroller.setScrollDirection(Scroller.ScrollDirection.VERTICAL);
 
+        // Load the next page when scrolled close to the bottom
+        scroller.getElement().addEventListener("scroll", _ -> loadNextPage())
+                .setFilter("element.scrollTop + element.clientHeight >= element.scrollHeight - 400")
+                .throttle(300);
+
         // Layout assembly
         add(header);
         add(filterBar);
+        add(bulkBar);
         add(scroller);
         setFlexGrow(1, scroller);
 
@@ -129,6 +246,11 @@ public class StorefrontView extends VerticalLayout {
                         });
                     });
         });
+
+        // Patch the affected card whenever an order changes; ignored once the UI is detached
+        var onOrderChange = attachEvent.getUI().accessLater(
+                (OrderChange change) -> applyOrderChange(change.orderIds()), null);
+        orderChangeSubscription = orderEventService.subscribe(onOrderChange::accept);
     }
 
     @Override
@@ -138,20 +260,39 @@ public class StorefrontView extends VerticalLayout {
             locationChangeRegistration.remove();
             locationChangeRegistration = null;
         }
+        if (orderChangeSubscription != null) {
+            orderChangeSubscription.cancel();
+            orderChangeSubscription = null;
+        }
     }
 
     private void openNewOrderDialog() {
         var dialog = new EditOrderDialog(orderService, locationService, customerService, userLocationService);
         dialog.setAvailableProducts(productService.listAvailable());
-        dialog.addSaveListener(_ -> refresh());
         dialog.open();
     }
 
+    private void openImportDialog() {
+        var dialog = new ImportOrdersDialog(orderImportService);
+        dialog.addImportListener(_ -> refresh());
+        dialog.open();
+    }
+
+    private void openExportDialog() {
+        new ExportOrdersDialog(orderExportService).open();
+    }
+
     /**
-     * Refresh the orders display. Called by MainLayout after order creation.
+     * Reloads the orders display for the current filter.
      */
-    public void refresh() {
+    private void refresh() {
         ordersContainer.removeAll();
+        cardsById.clear();
+        cardsContainersByDate.clear();
+        selectedOrders.clear();
+        updateBulkBar();
+        lastCursor = null;
+        hasMore = true;
 
         var fromDate = filterBar.getFromDate();
         var toDate = filterBar.getToDate();
@@ -163,63 +304,203 @@ public class StorefrontView extends VerticalLayout {
             toDate = fromDate.plusDays(7);
         }
 
-        var orders = orderService.listByDateRange(fromDate, toDate);
+        var selectedLocation = filterBar.getSelectedLocation();
+        filter = new OrderFilter(
+                fromDate,
+                toDate,
+                filterBar.getSelectedStatuses(),
+                selectedLocation != null ? selectedLocation.getId() : null,
+                searchField.getValue()
+        );
 
-        // Apply search filter (customer name)
-        var searchTerm = searchField.getValue();
-        if (searchTerm != null && !searchTerm.isBlank()) {
-            var lowerSearch = searchTerm.toLowerCase();
-            orders = orders.stream()
-                    .filter(o -> o.getCustomerName().toLowerCase().contains(lowerSearch))
-                    .toList();
+        loadNextPage();
+        emptyMessage.setVisible(cardsById.isEmpty());
+    }
+
+    /**
+     * Appends the next page of orders, continuing the last date section if the page starts on the same date.
+     * Pages come in card order, so every card goes to the end of its section.
+     */
+    private void loadNextPage() {
+        if (!hasMore || filter == null) {
+            return;
         }
 
-        // Apply status filter
-        var selectedStatuses = filterBar.getSelectedStatuses();
-        if (selectedStatuses != null && !selectedStatuses.isEmpty()) {
-            orders = orders.stream()
-                    .filter(o -> selectedStatuses.contains(o.getStatus()))
-                    .toList();
+        var orders = orderService.listPage(filter, lastCursor, PAGE_SIZE);
+        hasMore = orders.size() == PAGE_SIZE;
+        loadMoreButton.setVisible(hasMore);
+        if (orders.isEmpty()) {
+            return;
         }
 
-        // Apply location filter
-        var selectedLocation = filterBar.getSelectedLocation();
-        if (selectedLocation != null) {
-            orders = orders.stream()
-                    .filter(o -> selectedLocation.getName().equals(o.getLocationName()))
-                    .toList();
+        for (var order : orders) {
+            cardsContainer(order.getDueDate()).add(createCard(order));
         }
+        lastCursor = OrderCursor.of(orders.getLast());
+    }
 
-        // Group by date
-        Map<LocalDate, List<OrderList>> ordersByDate = orders.stream()
-                .collect(Collectors.groupingBy(
-                        OrderList::getDueDate,
-                        LinkedHashMap::new,
-                        Collectors.toList()
-                ));
-
-        if (ordersByDate.isEmpty()) {
-            var emptyMessage = new Div();
-            emptyMessage.addClassNames(
-                    LumoUtility.Display.FLEX,
-                    LumoUtility.AlignItems.CENTER,
-                    LumoUtility.JustifyContent.CENTER,
-                    LumoUtility.TextColor.SECONDARY
-            );
-            emptyMessage.getStyle().set("min-height", "200px");
-            emptyMessage.add(new Span("No orders found for the selected criteria"));
-            ordersContainer.add(emptyMessage);
+    /**
+     * Brings the cards of changed orders up to date: replaces them, removes those that no longer match
+     * the filter, and inserts those that fall within the pages loaded so far. Orders beyond the last loaded
+     * page are left for paging to pick up. A selected order stays selected as long as its card is shown.
+     */
+    private void applyOrderChange(List<Long> orderIds) {
+        if (filter == null) {
             return;
         }
 
-        // Create sections for each date
-        ordersByDate.forEach((date, dateOrders) -> {
-            var section = createDateSection(date, dateOrders);
+        var selectedIds = orderIds.stream().filter(selectedOrders::containsKey).collect(Collectors.toSet());
+        for (var orderId : orderIds) {
+            var existing = cardsById.remove(orderId);
+            if (existing != null) {
+                removeCard(existing);
+            }
+            selectedOrders.remove(orderId);
+        }
+
+        orderService.listMatching(orderIds, filter).stream()
+                .filter(order -> !hasMore || CARD_ORDER.compare(OrderCursor.of(order), lastCursor) <= 0)
+                .forEach(order -> {
+                    if (selectedIds.contains(order.getId())) {
+                        selectedOrders.put(order.getId(), order);
+                    }
+                    insertCard(order);
+                });
+
+        emptyMessage.setVisible(cardsById.isEmpty());
+        updateBulkBar();
+    }
+
+    private void setSelecting(boolean selecting) {
+        this.selecting = selecting;
+        selectButton.setText(selecting ? "Done" : "Select");
+        if (!selecting) {
+            selectedOrders.clear();
+        }
+        cardsById.values().forEach(card -> card.setSelectable(selecting));
+        updateBulkBar();
+    }
+
+    private void clearSelection() {
+        selectedOrders.clear();
+        cardsById.values().forEach(card -> card.setSelected(false));
+        updateBulkBar();
+    }
+
+    private void onOrderSelection(OrderList order, boolean selected) {
+        if (selected) {
+            selectedOrders.put(order.getId(), order);
+        } else {
+            selectedOrders.remove(order.getId());
+        }
+        updateBulkBar();
+    }
+
+    /**
+     * Offers only the statuses every selected order can change to.
+     */
+    private void updateBulkBar() {
+        bulkBar.setVisible(selecting);
+        selectionLabel.setText(selectedOrders.size() + " selected");
+
+        var targets = selectedOrders.isEmpty()
+                ? List.<OrderStatus>of()
+                : Arrays.stream(OrderStatus.values())
+                        .filter(target -> selectedOrders.values().stream()
+                                .allMatch(order -> order.getStatus().canChangeTo(target)))
+                        .toList();
+        if (!targets.equals(bulkTargets)) {
+            var current = bulkStatusComboBox.getValue();
+            bulkTargets = targets;
+            bulkStatusComboBox.setItems(targets);
+            bulkStatusComboBox.setValue(targets.contains(current) ? current : null);
+        }
+        bulkStatusComboBox.setEnabled(!targets.isEmpty());
+        applyBulkButton.setEnabled(bulkStatusComboBox.getValue() != null);
+    }
+
+    private void applyBulkStatus() {
+        var newStatus = bulkStatusComboBox.getValue();
+        if (newStatus == null || selectedOrders.isEmpty()) {
+            return;
+        }
+
+        var expectedVersions = selectedOrders.values().stream()
+                .collect(Collectors.toMap(OrderList::getId, OrderList::getVersion));
+        var result = orderService.updateStatuses(expectedVersions, newStatus);
+        clearSelection();
+
+        if (result.conflicts().isEmpty()) {
+            Notification.show(result.updatedIds().size() + " orders changed to " + newStatus.getDisplayName(),
+                            3000, Notification.Position.BOTTOM_START)
+                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+        } else {
+            var details = result.conflicts().stream()
+                    .limit(MAX_CONFLICTS_SHOWN)
+                    .map(conflict -> "#" + conflict.orderId() + ": " + conflict.reason())
+                    .collect(Collectors.joining("; "));
+            if (result.conflicts().size() > MAX_CONFLICTS_SHOWN) {
+                details += "; and " + (result.conflicts().size() - MAX_CONFLICTS_SHOWN) + " more";
+            }
+            Notification.show(result.updatedIds().size() + " orders changed, "
+                            + result.conflicts().size() + " not changed. " + details,
+                            8000, Notification.Position.BOTTOM_START)
+                    .addThemeVariants(NotificationVariant.LUMO_WARNING);
+        }
+    }
+
+    private void insertCard(OrderList order) {
+        var container = cardsContainer(order.getDueDate());
+        var position = OrderCursor.of(order);
+        var index = (int) container.getChildren()
+                .map(card -> OrderCursor.of(((OrderCard) card).getOrder()))
+                .filter(cursor -> CARD_ORDER.compare(cursor, position) < 0)
+                .count();
+        container.addComponentAtIndex(index, createCard(order));
+    }
+
+    private void removeCard(OrderCard card) {
+        var container = card.getParent().orElse(null);
+        card.removeFromParent();
+        if (container != null && container.getChildren().findAny().isEmpty()) {
+            // Last card of the date; drop the whole section
+            cardsContainersByDate.values().remove(container);
+            container.getParent().ifPresent(Component::removeFromParent);
+        }
+    }
+
+    private OrderCard createCard(OrderList order) {
+        var card = new OrderCard(order);
+        card.setSelectable(selecting);
+        card.setSelected(selectedOrders.containsKey(order.getId()));
+        card.addOrderClickListener(e -> openOrderDetail(e.getOrder().getId()));
+        card.addOrderSelectionListener(e -> onOrderSelection(e.getOrder(), e.isSelected()));
+        cardsById.put(order.getId(), card);
+        return card;
+    }
+
+    /**
+     * Cards container of the date's section, adding the section at its position if there is none yet.
+     */
+    private Div cardsContainer(LocalDate date) {
+        var container = cardsContainersByDate.get(date);
+        if (container != null) {
+            return container;
+        }
+
+        var section = createDateSection(date);
+        var next = cardsContainersByDate.higherEntry(date);
+        if (next == null) {
             ordersContainer.add(section);
-        });
+        } else {
+            var nextSection = next.getValue().getParent().orElseThrow();
+            ordersContainer.addComponentAtIndex(
+                    ordersContainer.getElement().indexOfChild(nextSection.getElement()), section);
+        }
+        return cardsContainersByDate.get(date);
     }
 
-    private Div createDateSection(LocalDate date, List<OrderList> orders) {
+    private Div createDateSection(LocalDate date) {
         var section = new Div();
         section.addClassNames(
                 LumoUtility.Display.FLEX,
@@ -243,12 +524,7 @@ public class StorefrontView extends VerticalLayout {
                 .set("display", "grid")
                 .set("grid-template-columns", "repeat(auto-fill, minmax(280px, 1fr))")
                 .set("gap", "var(--lumo-space-m)");
-
-        for (var order : orders) {
-            var card = new OrderCard(order);
-            card.addOrderClickListener(e -> openOrderDetail(e.getOrder().getId()));
-            cardsContainer.add(card);
-        }
+        cardsContainersByDate.put(date, cardsContainer);
 
         section.add(cardsContainer);
         return section;
@@ -24,7 +24,9 @@ import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import org.vaadin.bakery.service.LocationService;
+import org.vaadin.bakery.service.PhotoService.PhotoOwner;
 import org.vaadin.bakery.service.UserService;
+import org.vaadin.bakery.ui.photo.PhotoController;
 import org.vaadin.bakery.uimodel.data.LocationSummary;
 import org.vaadin.bakery.uimodel.data.UserDetail;
 import org.vaadin.bakery.uimodel.type.UserRole;
@@ -246,7 +248,6 @@ public class UserDialog extends Dialog {
     private void updatePhotoPreview() {
         photoContainerDiv.removeAll();
 
-        byte[] photoData = uploadedPhoto != null ? uploadedPhoto : user.getPhoto();
         String name = (user.getFirstName() != null ? user.getFirstName() : "") + " " +
                 (user.getLastName() != null ? user.getLastName() : "");
 
@@ -254,10 +255,11 @@ public class UserDialog extends Dialog {
         avatar.setWidth("80px");
         avatar.setHeight("80px");
 
-        if (photoData != null && photoData.length > 0) {
-            var resource = new StreamResource("user-photo",
-                    () -> new ByteArrayInputStream(photoData));
-            avatar.setImageResource(resource);
+        if (uploadedPhoto != null) {
+            var photoData = uploadedPhoto;
+            avatar.setImageResource(new StreamResource("user-photo", () -> new ByteArrayInputStream(photoData)));
+        } else if (!user.isNew() && user.isPhotoAvailable()) {
+            avatar.setImage(PhotoController.url(PhotoOwner.USER, user.getId(), user.getVersion(), 160));
         }
 
         photoContainerDiv.add(avatar);
@@ -13,18 +13,18 @@ import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.RolesAllowed;
 import org.vaadin.bakery.service.CurrentUserService;
 import org.vaadin.bakery.service.LocationService;
+import org.vaadin.bakery.service.PhotoService.PhotoOwner;
 import org.vaadin.bakery.service.UserService;
 import org.vaadin.bakery.ui.component.ViewHeader;
+import org.vaadin.bakery.ui.photo.PhotoController;
 import org.vaadin.bakery.uimodel.data.UserDetail;
 import org.vaadin.bakery.uimodel.data.UserSummary;
 import org.vaadin.lineawesome.LineAwesomeIconUrl;
 
-import java.io.ByteArrayInputStream;
 import java.util.List;
 
 /**
@@ -37,6 +37,11 @@ import java.util.List;
 @RolesAllowed("ADMIN")
 public class UsersView extends VerticalLayout {
 
+    /**
+     * Thumbnail edge length in pixels: twice the default avatar size, for high-density screens.
+     */
+    private static final int THUMBNAIL_SIZE = 80;
+
     private final UserService userService;
     private final CurrentUserService currentUserService;
     private final LocationService locationService;
@@ -109,12 +114,8 @@ public class UsersView extends VerticalLayout {
 
     private Avatar createUserAvatar(UserSummary user) {
         var avatar = new Avatar(user.getFullName());
-        if (user.getPhoto() != null && user.getPhoto().length > 0) {
-            var resource = new StreamResource(
-                    "user-" + user.getId(),
-                    () -> new ByteArrayInputStream(user.getPhoto())
-            );
-            avatar.setImageResource(resource);
+        if (user.isPhotoAvailable()) {
+            avatar.setImage(PhotoController.url(PhotoOwner.USER, user.getId(), user.getVersion(), THUMBNAIL_SIZE));
         }
         return avatar;
     }
@@ -14,6 +14,7 @@ import java.util.List;
 public class OrderList extends AbstractAuditableModel {
 
     private Long id;
+    private Integer version;
     private OrderStatus status;
     private LocalDate dueDate;
     private LocalTime dueTime;
@@ -31,6 +32,14 @@ public class OrderList extends AbstractAuditableModel {
         this.id = id;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public OrderStatus getStatus() {
         return status;
     }
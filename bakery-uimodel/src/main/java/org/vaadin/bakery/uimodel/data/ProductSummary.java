@@ -15,6 +15,7 @@ public class ProductSummary {
     private boolean available;
     private byte[] photo;
     private String photoContentType;
+    private Integer version;
 
     public Long getId() {
         return id;
@@ -64,6 +65,9 @@ public class ProductSummary {
         this.available = available;
     }
 
+    /**
+     * Photo to store on create or update. Never populated when reading; see {@link #isPhotoAvailable()}.
+     */
     public byte[] getPhoto() {
         return photo;
     }
@@ -79,4 +83,16 @@ public class ProductSummary {
     public void setPhotoContentType(String photoContentType) {
         this.photoContentType = photoContentType;
     }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public boolean isPhotoAvailable() {
+        return photoContentType != null;
+    }
 }
@@ -15,6 +15,7 @@ public class UserDetail {
     private UserRole role;
     private byte[] photo;
     private String photoContentType;
+    private Integer version;
     private Long primaryLocationId;
 
     public Long getId() {
@@ -65,6 +66,9 @@ public class UserDetail {
         this.role = role;
     }
 
+    /**
+     * Photo to store on create or update. Never populated when reading; see {@link #isPhotoAvailable()}.
+     */
     public byte[] getPhoto() {
         return photo;
     }
@@ -89,6 +93,18 @@ public class UserDetail {
         this.primaryLocationId = primaryLocationId;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public boolean isPhotoAvailable() {
+        return photoContentType != null;
+    }
+
     public boolean isNew() {
         return id == null;
     }
@@ -12,8 +12,8 @@ public class UserSummary {
     private String firstName;
     private String lastName;
     private UserRole role;
-    private byte[] photo;
     private String photoContentType;
+    private Integer version;
     private Long primaryLocationId;
 
     public Long getId() {
@@ -56,14 +56,6 @@ public class UserSummary {
         this.role = role;
     }
 
-    public byte[] getPhoto() {
-        return photo;
-    }
-
-    public void setPhoto(byte[] photo) {
-        this.photo = photo;
-    }
-
     public String getPhotoContentType() {
         return photoContentType;
     }
@@ -72,6 +64,14 @@ public class UserSummary {
         this.photoContentType = photoContentType;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public Long getPrimaryLocationId() {
         return primaryLocationId;
     }
@@ -83,4 +83,8 @@ public class UserSummary {
     public String getFullName() {
         return firstName + " " + lastName;
     }
+
+    public boolean isPhotoAvailable() {
+        return photoContentType != null;
+    }
 }
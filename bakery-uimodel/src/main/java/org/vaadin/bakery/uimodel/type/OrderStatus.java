@@ -47,4 +47,21 @@ public enum OrderStatus {
     public boolean isPreProduction() {
         return this == NEW || this == VERIFIED || this == NOT_OK;
     }
+
+    /**
+     * Whether the workflow allows moving an order from this status to the target status: one step along
+     * the normal flow, into and out of NOT_OK before production, or cancellation before pickup.
+     */
+    public boolean canChangeTo(OrderStatus target) {
+        return switch (this) {
+            case NEW -> target == VERIFIED || target == NOT_OK || target == CANCELLED;
+            case VERIFIED -> target == IN_PROGRESS || target == NOT_OK || target == CANCELLED;
+            case NOT_OK -> target == VERIFIED || target == CANCELLED;
+            case IN_PROGRESS -> target == BAKED || target == CANCELLED;
+            case BAKED -> target == PACKAGED || target == CANCELLED;
+            case PACKAGED -> target == READY_FOR_PICK_UP || target == CANCELLED;
+            case READY_FOR_PICK_UP -> target == PICKED_UP || target == CANCELLED;
+            case CANCELLED, PICKED_UP -> false;
+        };
+    }
 }